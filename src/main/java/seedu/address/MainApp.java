@@ -1,6 +1,7 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -25,7 +26,10 @@ import seedu.address.model.Timeslots;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalStorage;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonJournalStorage;
 import seedu.address.storage.JsonTimeslotsStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -61,9 +65,12 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs.getAddressBookFilePath());
         TimeslotsStorage timeslotsStorage = new JsonTimeslotsStorage(userPrefs.getTimeslotsFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, timeslotsStorage);
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        JournalStorage journalStorage = new JsonJournalStorage(
+                addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + ".journal"));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, timeslotsStorage, journalStorage);
 
         // Load timeslots first
         Timeslots initialTimeslots = initTimeslots(storage);
@@ -76,15 +83,45 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the address book at {@code filePath}: a binary snapshot if its name ends with
+     * {@link BinaryAddressBookStorage#FILE_EXTENSION}, and a JSON file otherwise. <br>
+     * If {@code filePath} does not exist yet but a file of the other format with the same name does, that file is
+     * converted first, so changing the format in the preferences keeps the data.
+     */
+    private AddressBookStorage initAddressBookStorage(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        boolean isSnapshot = fileName.endsWith(BinaryAddressBookStorage.FILE_EXTENSION);
+        String baseName = fileName.contains(".") ? fileName.substring(0, fileName.lastIndexOf('.')) : fileName;
+        Path otherFormatPath = filePath.resolveSibling(
+                baseName + (isSnapshot ? ".json" : BinaryAddressBookStorage.FILE_EXTENSION));
+
+        if (!Files.exists(filePath) && Files.exists(otherFormatPath)) {
+            logger.info("Converting " + otherFormatPath + " into " + filePath);
+            try {
+                if (isSnapshot) {
+                    BinaryAddressBookStorage.convertJsonToSnapshot(otherFormatPath, filePath);
+                } else {
+                    BinaryAddressBookStorage.convertSnapshotToJson(otherFormatPath, filePath);
+                }
+            } catch (DataLoadingException | IOException e) {
+                logger.warning("Failed to convert " + otherFormatPath + " : " + StringUtil.getDetails(e));
+            }
+        }
+
+        return isSnapshot ? new BinaryAddressBookStorage(filePath) : new JsonAddressBookStorage(filePath);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Changes journaled since the address book was last saved in full are replayed on top of it.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs, ReadOnlyTimeslots timeslots) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
+        Optional<ReadOnlyAddressBook> addressBookOptional = Optional.empty();
         ReadOnlyAddressBook initialData;
         try {
             addressBookOptional = storage.readAddressBook();
@@ -99,7 +136,43 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, timeslots, userPrefs);
+        AddressBook addressBook = new AddressBook(initialData);
+        Timeslots initialTimeslots = new Timeslots(timeslots);
+        Optional<JournalStorage> journalOptional = storage.getJournalStorage();
+        if (journalOptional.isPresent()) {
+            replayJournal(storage, journalOptional.get(), addressBookOptional.isPresent(), addressBook,
+                    initialTimeslots);
+        }
+
+        ModelManager modelManager = new ModelManager(addressBook, initialTimeslots, userPrefs);
+        journalOptional.ifPresent(modelManager::setDataChangeListener);
+        return modelManager;
+    }
+
+    /**
+     * Replays the changes in {@code journal} onto {@code addressBook} and {@code timeslots}, then saves the result
+     * in full so the journal starts empty. The journal is discarded instead if {@code isLoadedFromFile} is false,
+     * since its changes were made to an address book that could not be loaded.
+     */
+    private void replayJournal(Storage storage, JournalStorage journal, boolean isLoadedFromFile,
+            AddressBook addressBook, Timeslots timeslots) {
+        AddressBook checkpointedAddressBook = new AddressBook(addressBook);
+        Timeslots checkpointedTimeslots = new Timeslots(timeslots);
+        try {
+            if (isLoadedFromFile && journal.replayJournal(addressBook, timeslots) > 0) {
+                logger.info("Replayed journal " + journal.getJournalFilePath());
+                storage.checkpoint(addressBook, timeslots);
+            } else {
+                journal.clearJournal();
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Journal at " + journal.getJournalFilePath() + " could not be replayed."
+                    + " Will be starting from the last saved data.");
+            addressBook.resetData(checkpointedAddressBook);
+            timeslots.resetData(checkpointedTimeslots);
+        } catch (IOException e) {
+            logger.warning("Failed to save replayed data : " + StringUtil.getDetails(e));
+        }
     }
 
     /**
@@ -226,5 +299,11 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.checkpoint(model.getAddressBook(), model.getTimeslots());
+        } catch (IOException e) {
+            logger.severe("Failed to save data, it will be restored from the journal " + StringUtil.getDetails(e));
+        }
+        storage.flush();
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -39,13 +42,23 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /**
+     * Writes JSON content to a {@code JsonGenerator}.
+     */
+    @FunctionalInterface
+    public interface JsonWriter {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        writeJsonFile(jsonFile, false, generator -> generator.writeObject(objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = FileUtil.openForReading(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
@@ -91,6 +104,40 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Writes the JSON content produced by {@code writer} straight to {@code filePath}, without building it in memory
+     * first. The file is only replaced once all the content is on disk.
+     *
+     * @param isCompact whether to leave out the line breaks and indentation that make the file easy to read.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void writeJsonFile(Path filePath, boolean isCompact, JsonWriter writer) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(writer);
+
+        FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                // the file is forced to disk after writing, so the stream must be left open
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                if (!isCompact) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                writer.writeTo(generator);
+            }
+        });
+    }
+
+    /**
+     * Returns a parser that reads the JSON content of {@code filePath} one token at a time, and can read values
+     * into objects with {@link JsonParser#readValueAs(Class)}. The caller is responsible for closing it.
+     *
+     * @throws IOException if the file could not be opened.
+     */
+    public static JsonParser openJsonParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(FileUtil.openForReading(filePath));
+    }
+
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +158,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without any line breaks
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, on a single line
+     */
+    public static <T> String toSingleLineJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,13 +1,16 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.Week;
 import seedu.address.model.person.Person;
 
 /**
@@ -33,6 +36,9 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /** Returns the current week of the semester, which changes whenever the week is set */
+    ObservableValue<Week> getCurrentWeek();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -47,4 +53,10 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler that is given a message whenever data fails to save in the background.
+     * The handler is not called on the JavaFX thread.
+     */
+    void setSaveErrorHandler(Consumer<String> errorHandler);
 }
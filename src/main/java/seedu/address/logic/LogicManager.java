@@ -3,9 +3,11 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -15,8 +17,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.Week;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 import seedu.address.ui.TimeslotsWindow;
@@ -51,23 +53,14 @@ public class LogicManager implements Logic {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            commandResult = command.execute(model);
+        } finally {
+            model.endUndoableStep();
         }
-
-        // Persist timeslots if model supports it
         try {
-            if (model instanceof ModelManager) {
-                storage.saveTimeslots(((ModelManager) model).getTimeslots());
-            }
+            storage.saveCommandResult(commandText, model.getAddressBook(), model.getTimeslots());
         } catch (AccessDeniedException e) {
-            // wrap as CommandException with permission detail
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
@@ -79,7 +72,8 @@ public class LogicManager implements Logic {
          */
         if (commandResult.getTimeslotRanges() != null && !commandResult.getTimeslotRanges().isEmpty()) {
             try {
-                Platform.runLater(() -> TimeslotsWindow.showMerged(commandResult.getTimeslotRanges()));
+                Platform.runLater(() -> TimeslotsWindow.showMerged(commandResult.getTimeslotRanges(),
+                        model.getTimeslots()));
             } catch (IllegalStateException e) {
                 // JavaFX not initialized; ignore UI launch, command result still returned.
             }
@@ -98,6 +92,11 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public ObservableValue<Week> getCurrentWeek() {
+        return model.getObservableCurrentWeek();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -112,4 +111,9 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> errorHandler) {
+        storage.setSaveErrorHandler(errorHandler);
+    }
 }
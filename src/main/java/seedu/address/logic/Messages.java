@@ -16,6 +16,11 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_DUPLICATE_EMAIL = "This email is already used by another student in LambdaLab";
+    public static final String MESSAGE_DUPLICATE_PHONE =
+                "This phone number is already used by another student in LambdaLab";
+    public static final String MESSAGE_DUPLICATE_GITHUB_USERNAME =
+                "This GitHub username is already used by another student in LambdaLab";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
 
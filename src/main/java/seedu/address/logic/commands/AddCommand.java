@@ -57,6 +57,15 @@ public class AddCommand extends Command {
         if (model.hasPerson(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
+        if (!model.findPersonsByEmail(toAdd.getEmail()).isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_DUPLICATE_EMAIL);
+        }
+        if (!model.findPersonsByPhone(toAdd.getPhone()).isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_DUPLICATE_PHONE);
+        }
+        if (!model.findPersonsByGithubUsername(toAdd.getGithubUsername()).isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_DUPLICATE_GITHUB_USERNAME);
+        }
 
         model.saveAddressBook();
         model.addPerson(toAdd);
@@ -0,0 +1,75 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.timeslot.RecurringTimeslot;
+import seedu.address.model.timeslot.Timeslot;
+
+/**
+ * Blocks the same timeslot every week for a number of weeks.
+ */
+public class BlockRecurringTimeslotCommand extends Command {
+
+    public static final String COMMAND_WORD = "block-recurring";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Blocks the same timeslot every week for a number of weeks, such as a weekly lab session. "
+            + "The given timeslot is the first occurrence, and the occurrences on the skipped dates are left free.\n"
+            + "Parameters: ts/START_DATETIME te/END_DATETIME w/WEEKS [x/SKIPPED_DATE]...\n"
+            + "Example: " + COMMAND_WORD + " ts/6 Oct 2025, 14:00 te/6 Oct 2025, 16:00 w/13 x/20 Oct 2025";
+
+    public static final String MESSAGE_SUCCESS = "Added: %1$s";
+    public static final String MESSAGE_DUPLICATE_RECURRING_TIMESLOT = "This recurring timeslot already exists.";
+
+    private static final DateTimeFormatter DATE_DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("d MMM uuuu");
+
+    private final RecurringTimeslot toAdd;
+
+    /**
+     * Creates a BlockRecurringTimeslotCommand that will add the specified {@code RecurringTimeslot}.
+     */
+    public BlockRecurringTimeslotCommand(RecurringTimeslot recurringTimeslot) {
+        requireNonNull(recurringTimeslot);
+        this.toAdd = recurringTimeslot;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.hasRecurringTimeslot(toAdd)) {
+            throw new CommandException(MESSAGE_DUPLICATE_RECURRING_TIMESLOT);
+        }
+        model.saveAddressBook();
+        model.addRecurringTimeslot(toAdd);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, describe(toAdd)));
+    }
+
+    /**
+     * Returns a human-readable description of {@code recurringTimeslot}, for user-facing messages.
+     */
+    public static String describe(RecurringTimeslot recurringTimeslot) {
+        Timeslot first = recurringTimeslot.getFirstOccurrence();
+        String description = String.format("%s -> %s, weekly for %d week(s)",
+                first.getStart().format(Timeslot.DISPLAY_FORMATTER),
+                first.getEnd().format(Timeslot.DISPLAY_FORMATTER),
+                recurringTimeslot.getWeekCount());
+        if (recurringTimeslot.getExceptions().isEmpty()) {
+            return description;
+        }
+        return description + ", except " + recurringTimeslot.getExceptions().stream()
+                .map(date -> date.format(DATE_DISPLAY_FORMATTER))
+                .collect(Collectors.joining(", "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof BlockRecurringTimeslotCommand
+                && toAdd.equals(((BlockRecurringTimeslotCommand) other).toAdd));
+    }
+}
@@ -88,6 +88,7 @@ public class EditCommand extends Command {
         if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
+        checkContactFieldsUnique(model, personToEdit, editedPerson);
 
         model.saveAddressBook();
         model.setPerson(personToEdit, editedPerson);
@@ -95,6 +96,30 @@ public class EditCommand extends Command {
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
 
+    /**
+     * Checks that any email, phone or GitHub username changed by this edit is not held by another person.
+     * Unchanged values are not checked, so persons loaded with clashing values can still be edited.
+     */
+    private static void checkContactFieldsUnique(Model model, Person personToEdit, Person editedPerson)
+            throws CommandException {
+        if (!personToEdit.getEmail().equals(editedPerson.getEmail())
+                && isHeldByOther(model.findPersonsByEmail(editedPerson.getEmail()), personToEdit)) {
+            throw new CommandException(Messages.MESSAGE_DUPLICATE_EMAIL);
+        }
+        if (!personToEdit.getPhone().equals(editedPerson.getPhone())
+                && isHeldByOther(model.findPersonsByPhone(editedPerson.getPhone()), personToEdit)) {
+            throw new CommandException(Messages.MESSAGE_DUPLICATE_PHONE);
+        }
+        if (!personToEdit.getGithubUsername().equals(editedPerson.getGithubUsername())
+                && isHeldByOther(model.findPersonsByGithubUsername(editedPerson.getGithubUsername()), personToEdit)) {
+            throw new CommandException(Messages.MESSAGE_DUPLICATE_GITHUB_USERNAME);
+        }
+    }
+
+    private static boolean isHeldByOther(List<Person> holders, Person personToEdit) {
+        return holders.stream().anyMatch(holder -> !holder.isSamePerson(personToEdit));
+    }
+
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
      * edited with {@code editPersonDescriptor}.
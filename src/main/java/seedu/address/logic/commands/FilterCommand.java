@@ -2,18 +2,27 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.predicates.FilterCombinedPredicate;
+import seedu.address.model.person.predicates.IndexedPredicate;
+import seedu.address.model.person.predicates.StatusBitmapPredicate;
 
 
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book whose exercise or lab statuses match all the given statuses.
+ * Where possible, the matches are computed from the model's status bitmap index.
+ * Persons added or edited after the filter are checked against the statuses directly.
  */
 public class FilterCommand extends Command {
 
@@ -38,11 +47,36 @@ public class FilterCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Optional<List<StatusBitmapPredicate>> indexedPredicates = getIndexedPredicates();
+        if (indexedPredicates.isPresent()) {
+            Set<StudentId> matches = model.findStatusMatches(indexedPredicates.get());
+            model.updateFilteredPersonList(new IndexedPredicate(person -> matches.contains(person.getStudentId()),
+                    predicate, model::getAddressBookVersion));
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns the AND-combined parts of {@code predicate} if all of them can be answered from the status index.
+     */
+    private Optional<List<StatusBitmapPredicate>> getIndexedPredicates() {
+        List<Predicate<Person>> parts = predicate instanceof FilterCombinedPredicate
+                ? ((FilterCombinedPredicate) predicate).getPredicates()
+                : List.of(predicate);
+
+        List<StatusBitmapPredicate> indexedPredicates = new ArrayList<>();
+        for (Predicate<Person> part : parts) {
+            if (!(part instanceof StatusBitmapPredicate)) {
+                return Optional.empty();
+            }
+            indexedPredicates.add((StatusBitmapPredicate) part);
+        }
+        return Optional.of(indexedPredicates);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
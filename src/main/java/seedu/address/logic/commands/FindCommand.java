@@ -2,18 +2,28 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.predicates.FieldContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.IndexedPredicate;
+import seedu.address.model.person.predicates.PersonContainsKeywordsPredicate;
 
 
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * Where possible, the model's trigram index is used to narrow down the persons that need to be checked.
+ * Persons added or edited after the search are checked against the keywords directly.
  */
 public class FindCommand extends Command {
 
@@ -35,11 +45,47 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Optional<Set<StudentId>> candidates = findCandidates(model);
+        if (candidates.isPresent()) {
+            Set<StudentId> candidateIds = candidates.get();
+            model.updateFilteredPersonList(new IndexedPredicate(
+                    person -> candidateIds.contains(person.getStudentId()) && predicate.test(person), predicate,
+                    model::getAddressBookVersion));
+        } else {
+            model.updateFilteredPersonList(predicate);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns the student IDs of every person that may match {@code predicate}.
+     * Since field predicates are OR-combined, this is the union of the candidates of every field and keyword.
+     * Returns an empty {@code Optional} if the search cannot be narrowed down, e.g. a keyword is too short.
+     */
+    private Optional<Set<StudentId>> findCandidates(Model model) {
+        List<Predicate<Person>> fieldPredicates = predicate instanceof PersonContainsKeywordsPredicate
+                ? ((PersonContainsKeywordsPredicate) predicate).getPredicates()
+                : List.of(predicate);
+
+        Set<StudentId> candidates = new HashSet<>();
+        for (Predicate<Person> fieldPredicate : fieldPredicates) {
+            if (!(fieldPredicate instanceof FieldContainsKeywordsPredicate)) {
+                return Optional.empty();
+            }
+            FieldContainsKeywordsPredicate keywordsPredicate = (FieldContainsKeywordsPredicate) fieldPredicate;
+            for (String keyword : keywordsPredicate.getKeywords()) {
+                Optional<Set<StudentId>> keywordCandidates =
+                        model.getSearchCandidates(keywordsPredicate.getField(), keyword);
+                if (keywordCandidates.isEmpty()) {
+                    return Optional.empty();
+                }
+                candidates.addAll(keywordCandidates.get());
+            }
+        }
+        return Optional.of(candidates);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.timeslot.Timeslot;
+
+/**
+ * Finds the gaps between blocked timeslots that are long enough for a consultation.
+ */
+public class FindFreeCommand extends Command {
+
+    public static final String COMMAND_WORD = "find-free";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the free periods of at least the given length, in minutes, within a datetime range, "
+            + "earliest first.\n"
+            + "Parameters: ts/START_DATETIME te/END_DATETIME d/MINUTES [top/COUNT]\n"
+            + "Example: " + COMMAND_WORD + " ts/6 Oct 2025, 10:00 te/6 Oct 2025, 18:00 d/30 top/3";
+
+    public static final String MESSAGE_SUCCESS = "Free timeslots of at least %1$d minutes:%n%2$s";
+    public static final String MESSAGE_NO_FREE_TIMESLOTS =
+            "No free timeslot of at least %1$d minutes from %2$s to %3$s.";
+
+    private final Timeslot window;
+    private final Duration minDuration;
+    private final int limit;
+
+    /**
+     * Creates a FindFreeCommand that finds the earliest {@code limit} free periods within {@code window} that last
+     * at least {@code minDuration}.
+     */
+    public FindFreeCommand(Timeslot window, Duration minDuration, int limit) {
+        requireNonNull(window);
+        requireNonNull(minDuration);
+        this.window = window;
+        this.minDuration = minDuration;
+        this.limit = limit;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Timeslot> free = model.getTimeslots().getFreeTimeslots(window, minDuration, limit);
+        long minutes = minDuration.toMinutes();
+
+        if (free.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_TIMESLOTS, minutes,
+                    window.getStart().format(Timeslot.DISPLAY_FORMATTER),
+                    window.getEnd().format(Timeslot.DISPLAY_FORMATTER)));
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (Timeslot slot : free) {
+            sb.append(String.format("%s -> %s%n",
+                    slot.getStart().format(Timeslot.DISPLAY_FORMATTER),
+                    slot.getEnd().format(Timeslot.DISPLAY_FORMATTER)));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, minutes, sb));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof FindFreeCommand)) {
+            return false;
+        }
+        FindFreeCommand otherCommand = (FindFreeCommand) other;
+        return window.equals(otherCommand.window)
+                && minDuration.equals(otherCommand.minDuration)
+                && limit == otherCommand.limit;
+    }
+}
@@ -14,6 +14,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyTimeslots;
+import seedu.address.model.timeslot.RecurringTimeslot;
 import seedu.address.model.timeslot.Timeslot;
 import seedu.address.storage.TimeslotsStorage;
 
@@ -25,10 +26,11 @@ public class GetTimeslotCommand extends Command {
     public static final String COMMAND_WORD = "get-timeslots";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Displays merged timeslot ranges from the timeslots storage.\n"
+            + ": Displays merged timeslot ranges and recurring timeslots from the timeslots storage.\n"
             + "Example: " + COMMAND_WORD;
 
     public static final String MESSAGE_SUCCESS = "Blocked Timeslots:%n%s";
+    public static final String MESSAGE_RECURRING = "Recurring Timeslots:%n%s";
     public static final String MESSAGE_MODEL_UNSUPPORTED =
             "Model does not support timeslots retrieval.";
 
@@ -44,10 +46,8 @@ public class GetTimeslotCommand extends Command {
         }
         ReadOnlyTimeslots roTimeslots = ((ModelManager) model).getTimeslots();
 
-        List<Timeslot> list = new ArrayList<>(roTimeslots.getTimeslotList());
-        list.sort(Comparator.comparing(Timeslot::getStart));
-
-        ArrayList<LocalDateTime[]> merged = mergeOverlappingTimeslots(list);
+        // The timeslots are already ordered by start time, and the model keeps them merged, so this is one pass
+        ArrayList<LocalDateTime[]> merged = mergeOverlappingTimeslots(roTimeslots.getTimeslotList());
 
         // Build human-readable lines for feedback
         StringBuilder sb = new StringBuilder();
@@ -56,13 +56,31 @@ public class GetTimeslotCommand extends Command {
                     range[0].format(Timeslot.DISPLAY_FORMATTER),
                     range[1].format(Timeslot.DISPLAY_FORMATTER)));
         }
-        if (merged.isEmpty()) {
+        List<RecurringTimeslot> rules = roTimeslots.getRecurringTimeslotList();
+        if (merged.isEmpty() && rules.isEmpty()) {
             sb.append("No timeslots found.");
             return new CommandResult(sb.toString());
         }
 
-        // Return the CommandResult carrying the merged ranges payload; UI layer will handle display.
-        return new CommandResult(String.format(MESSAGE_SUCCESS, sb.toString()), merged);
+        String feedback = String.format(MESSAGE_SUCCESS, sb.toString());
+        if (!rules.isEmpty()) {
+            StringBuilder rulesSb = new StringBuilder();
+            for (RecurringTimeslot rule : rules) {
+                rulesSb.append(String.format("%s%n", BlockRecurringTimeslotCommand.describe(rule)));
+            }
+            feedback += String.format(MESSAGE_RECURRING, rulesSb.toString());
+        }
+
+        // The first occurrence of each rule is only there so the UI opens at the earliest blocked week;
+        // the UI works out the occurrences of each week it shows from the model.
+        ArrayList<LocalDateTime[]> ranges = new ArrayList<>(merged);
+        for (RecurringTimeslot rule : rules) {
+            Timeslot first = rule.getFirstOccurrence();
+            ranges.add(new LocalDateTime[]{first.getStart(), first.getEnd()});
+        }
+
+        // Return the CommandResult carrying the ranges payload; UI layer will handle display.
+        return new CommandResult(feedback, ranges);
     }
 
     /**
@@ -112,34 +130,21 @@ public class GetTimeslotCommand extends Command {
      */
     public static ArrayList<LocalDateTime[]> mergeOverlappingTimeslots(List<Timeslot> sorted) {
         ArrayList<LocalDateTime[]> merged = new ArrayList<>();
-        int n = sorted == null ? 0 : sorted.size();
-
-        for (int i = 0; i < n; i++) {
-            Timeslot current = sorted.get(i);
-            LocalDateTime start = current.getStart();
-            LocalDateTime end = current.getEnd();
+        if (sorted == null) {
+            return merged;
+        }
 
-            // If current interval is already fully covered by last merged interval, skip.
+        for (Timeslot current : sorted) {
             if (!merged.isEmpty()) {
-                LocalDateTime lastEnd = merged.get(merged.size() - 1)[1];
-                if (!lastEnd.isBefore(end)) { // lastEnd >= end
+                LocalDateTime[] last = merged.get(merged.size() - 1);
+                if (!current.getStart().isAfter(last[1])) { // overlaps or touches the last merged range
+                    if (current.getEnd().isAfter(last[1])) {
+                        last[1] = current.getEnd();
+                    }
                     continue;
                 }
             }
-
-            // Extend the interval with overlapping timeslots
-            for (int j = i + 1; j < n; j++) {
-                Timeslot next = sorted.get(j);
-                if (next.getStart().isAfter(end)) {
-                    break; // no overlap
-                }
-                // overlap exists; extend end if needed
-                if (next.getEnd().isAfter(end)) {
-                    end = next.getEnd();
-                }
-            }
-
-            merged.add(new LocalDateTime[]{start, end});
+            merged.add(new LocalDateTime[]{current.getStart(), current.getEnd()});
         }
 
         return merged;
@@ -13,6 +13,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.ExamKind;
 import seedu.address.model.person.GradeMap;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.InvalidExamNameException;
@@ -67,7 +68,7 @@ public class GradeCommand extends Command {
 
         try {
             updatedGradeMap.gradeExam(examName, score); // Modify the copy
-            assert updatedGradeMap.getGradeableHashMap().get(examName) != null
+            assert ExamKind.fromExamName(examName).map(updatedGradeMap::isGraded).orElse(false)
                     : "Updated GradeMap should contain the graded exam";
         } catch (InvalidExamNameException iene) {
             throw new CommandException(
@@ -3,9 +3,11 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LAB_NUMBER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
@@ -15,6 +17,7 @@ import seedu.address.model.Model;
 import seedu.address.model.person.LabAttendanceList;
 import seedu.address.model.person.LabList;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * Marks the specified lab as attended or not attended for one or more persons in the address book.
@@ -24,13 +27,15 @@ public class MarkAttendanceCommand extends MultiIndexCommand {
     public static final String COMMAND_WORD = "marka";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks the specific lab of the person(s) identified "
-            + "by the index number(s) used in the last person listing.\n"
-            + "Parameters: INDEX (must be a positive integer or range X:Y) "
+            + "by the index number(s) used in the last person listing, or of every person with the given tag.\n"
+            + "Parameters: INDEX (must be a positive integer or range X:Y) or " + PREFIX_TAG + "TAG "
             + PREFIX_LAB_NUMBER + "LABNUMBER "
             + PREFIX_STATUS + "ATTENDANCESTATUS\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_LAB_NUMBER + "1 " + PREFIX_STATUS + "y\n"
             + "Example: " + COMMAND_WORD + " 1:5 "
+            + PREFIX_LAB_NUMBER + "1 " + PREFIX_STATUS + "y\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "T01 "
             + PREFIX_LAB_NUMBER + "1 " + PREFIX_STATUS + "y";
 
     public static final String MESSAGE_MARK_ATTENDANCE_SUCCESS =
@@ -61,6 +66,18 @@ public class MarkAttendanceCommand extends MultiIndexCommand {
         this.isAttended = isAttended;
     }
 
+    /**
+     * @param tagGroup tag of the persons to be marked
+     * @param labNumber index of the lab number to be marked
+     * @param isAttended attendance status to set
+     */
+    public MarkAttendanceCommand(Tag tagGroup, Index labNumber, boolean isAttended) {
+        super(tagGroup);
+        requireAllNonNull(tagGroup, labNumber);
+        this.labNumber = labNumber;
+        this.isAttended = isAttended;
+    }
+
     @Override
     protected Person applyActionToPerson(Model model, Person personToEdit) throws CommandException {
         LabAttendanceList labAttendanceList = ((LabList) personToEdit.getLabAttendanceList())
@@ -85,7 +102,6 @@ public class MarkAttendanceCommand extends MultiIndexCommand {
                 personToEdit.getGithubUsername(), personToEdit.getExerciseTracker(),
                 labAttendanceList, personToEdit.getGradeMap());
 
-        model.setPerson(personToEdit, editedPerson);
         return editedPerson;
     }
 
@@ -141,7 +157,8 @@ public class MarkAttendanceCommand extends MultiIndexCommand {
             return false;
         }
         MarkAttendanceCommand otherCommand = (MarkAttendanceCommand) other;
-        return multiIndex.equals(otherCommand.multiIndex)
+        return Objects.equals(multiIndex, otherCommand.multiIndex)
+                && Objects.equals(tagGroup, otherCommand.tagGroup)
                 && labNumber.equals(otherCommand.labNumber)
                 && isAttended == otherCommand.isAttended;
     }
@@ -1,11 +1,11 @@
 package seedu.address.logic.commands;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.person.ExerciseTracker.NUMBER_OF_EXERCISES;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
@@ -15,6 +15,7 @@ import seedu.address.model.Model;
 import seedu.address.model.person.ExerciseTracker;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Status;
+import seedu.address.model.tag.Tag;
 
 /**
  * Marks a specific exercise as a given status for one or more students in the address book.
@@ -24,10 +25,11 @@ public class MarkExerciseCommand extends MultiIndexCommand {
     public static final String COMMAND_WORD = "marke";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks the exercise status of one or more persons "
-            + "identified by their index numbers in the last person listing.\n"
-            + "Parameters: INDEX (must be a positive integer or range X:Y) "
+            + "identified by their index numbers in the last person listing, or of every person with the given tag.\n"
+            + "Parameters: INDEX (must be a positive integer or range X:Y) or t/TAG "
             + "ei/EXERCISEINDEX s/STATUS\n"
-            + "Example: " + COMMAND_WORD + " 1:3 ei/1 s/d";
+            + "Example: " + COMMAND_WORD + " 1:3 ei/1 s/d\n"
+            + "Example: " + COMMAND_WORD + " t/T01 ei/1 s/d";
 
     public static final String MESSAGE_MARK_EXERCISE_SUCCESS =
             "Exercise %1$d marked as %2$s for: %3$s";
@@ -56,6 +58,19 @@ public class MarkExerciseCommand extends MultiIndexCommand {
         this.status = status;
     }
 
+    /**
+     * @param tagGroup tag of the students to be marked
+     * @param exerciseIndex exercise number to mark
+     * @param status status to mark the exercise with
+     */
+    public MarkExerciseCommand(Tag tagGroup, Index exerciseIndex, Status status) {
+        super(tagGroup);
+        requireAllNonNull(tagGroup, exerciseIndex, status);
+        this.studentIndex = null;
+        this.exerciseIndex = exerciseIndex;
+        this.status = status;
+    }
+
     @Override
     protected Person applyActionToPerson(Model model, Person personToEdit) throws CommandException {
         ExerciseTracker updatedExerciseTracker = personToEdit.getExerciseTracker().copy();
@@ -80,8 +95,6 @@ public class MarkExerciseCommand extends MultiIndexCommand {
                 personToEdit.getGradeMap()
         );
 
-        model.setPerson(personToEdit, updatedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return updatedPerson;
     }
 
@@ -135,7 +148,8 @@ public class MarkExerciseCommand extends MultiIndexCommand {
         }
 
         MarkExerciseCommand otherCommand = (MarkExerciseCommand) other;
-        return studentIndex.equals(otherCommand.studentIndex)
+        return Objects.equals(studentIndex, otherCommand.studentIndex)
+                && Objects.equals(tagGroup, otherCommand.tagGroup)
                 && exerciseIndex.equals(otherCommand.exerciseIndex)
                 && status.equals(otherCommand.status);
     }
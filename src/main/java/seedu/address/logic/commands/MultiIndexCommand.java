@@ -5,61 +5,103 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.core.index.MultiIndex;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
- * An abstract command that operates on one or more persons identified by a {@link MultiIndex}.
+ * An abstract command that operates on one or more persons identified either by a {@link MultiIndex}
+ * into the displayed list, or by a tag group.
  * Concrete subclasses define the specific action to perform on each selected person.
  */
 public abstract class MultiIndexCommand extends Command {
 
+    public static final String MESSAGE_EMPTY_TAG_GROUP = "No students are tagged with %1$s";
+
     protected final MultiIndex multiIndex;
+    protected final Tag tagGroup;
 
     /**
      * Constructs a {@code MultiIndexCommand} with the specified {@code MultiIndex}.
      */
     protected MultiIndexCommand(MultiIndex multiIndex) {
         this.multiIndex = multiIndex;
+        this.tagGroup = null;
     }
 
     /**
-     * Executes the command for each person represented by {@code multiIndex}.
+     * Constructs a {@code MultiIndexCommand} that operates on every person tagged with {@code tagGroup}.
+     */
+    protected MultiIndexCommand(Tag tagGroup) {
+        this.multiIndex = null;
+        this.tagGroup = tagGroup;
+    }
+
+    /**
+     * Executes the command for each person represented by {@code multiIndex} or {@code tagGroup}.
+     * Every person is checked and edited before the model is changed, and the edited persons then replace the
+     * originals all at once, so the command either changes every person it should or none of them.
      *
      * @param model The model containing the person list.
      * @return A {@code CommandResult} representing the outcome.
-     * @throws CommandException if an index is invalid or the action fails.
+     * @throws CommandException if an index is invalid, the tag group is empty or the action fails.
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        model.saveAddressBook();
-        List<Person> lastShownList = model.getFilteredPersonList();
+        List<Person> targets = getTargetPersons(model);
+        List<Person> editedTargets = new ArrayList<>();
         List<Person> updatedPersons = new ArrayList<>();
 
-        for (Index index : multiIndex.toIndexList()) {
-            if (index.getZeroBased() >= lastShownList.size()) {
-                throw new CommandException(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-            }
-
-            Person personToEdit = lastShownList.get(index.getZeroBased());
+        for (Person personToEdit : targets) {
             Person editedPerson = applyActionToPerson(model, personToEdit);
 
             if (editedPerson != null) {
+                editedTargets.add(personToEdit);
                 updatedPersons.add(editedPerson);
             }
         }
 
+        if (!editedTargets.isEmpty()) {
+            model.saveAddressBook();
+            model.setPersons(editedTargets, updatedPersons);
+        }
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return buildResult(updatedPersons);
     }
 
     /**
-     * Applies the command's specific action to the given person.
-     * @param model The model to update.
+     * Returns the persons this command operates on.
+     * They are resolved before any person is modified, so modifying one does not shift the others.
+     */
+    private List<Person> getTargetPersons(Model model) throws CommandException {
+        if (tagGroup != null) {
+            List<Person> members = model.getTagGroup(tagGroup);
+            if (members.isEmpty()) {
+                throw new CommandException(String.format(MESSAGE_EMPTY_TAG_GROUP, tagGroup));
+            }
+            return members;
+        }
+
+        List<Person> lastShownList = model.getFilteredPersonList();
+        List<Person> targets = new ArrayList<>();
+        for (Index index : multiIndex.toIndexList()) {
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            targets.add(lastShownList.get(index.getZeroBased()));
+        }
+        return targets;
+    }
+
+    /**
+     * Applies the command's specific action to the given person, without changing the model.
+     * The returned person replaces {@code person} in the model once every person has been processed.
+     * @param model The model the person is in.
      * @param person The person to modify.
      * @return The updated {@code Person} if modified, or {@code null} if unchanged.
      * @throws CommandException If an operation fails.
@@ -82,6 +124,7 @@ public abstract class MultiIndexCommand extends Command {
             return false;
         }
         MultiIndexCommand otherCommand = (MultiIndexCommand) other;
-        return multiIndex.equals(otherCommand.multiIndex);
+        return Objects.equals(multiIndex, otherCommand.multiIndex)
+                && Objects.equals(tagGroup, otherCommand.tagGroup);
     }
 }
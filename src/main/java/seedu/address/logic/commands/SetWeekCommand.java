@@ -4,17 +4,13 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.List;
-
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.Week;
-import seedu.address.model.person.LabList;
-import seedu.address.model.person.Person;
 
 /**
  * Sets the current week number for the semester.
- * Updates all students' lab attendance to reflect which labs are now past.
+ * The lab statuses of all students then reflect which labs are now past.
  */
 public class SetWeekCommand extends Command {
     public static final String COMMAND_WORD = "set-week";
@@ -23,8 +19,7 @@ public class SetWeekCommand extends Command {
             + "Parameters: WEEK_NUMBER (must be between 0 and 13)\n"
             + "Example: " + COMMAND_WORD + " 7";
 
-    public static final String MESSAGE_SUCCESS = "Current week set to: Week %1$d\n"
-            + "Updated lab statuses for %2$d students.";
+    public static final String MESSAGE_SUCCESS = "Current week set to: Week %1$d";
 
     private final Week currentWeek;
 
@@ -41,37 +36,11 @@ public class SetWeekCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         model.saveAddressBook(); // Save current state BEFORE making changes for undo functionality
 
+        // Lab statuses are worked out from the current week, so no person needs to be replaced.
         model.setCurrentWeek(currentWeek);
-        int currentWeekNumber = currentWeek.getWeekNumber();
-
-        LabList.setCurrentWeek(currentWeekNumber);
-
-        List<Person> allPersons = model.getAddressBook().getPersonList();
-        int updatedCount = 0;
-
-        for (Person person : allPersons) {
-            LabList oldLabList = (LabList) person.getLabAttendanceList();
-            LabList updatedLabList = oldLabList.copy();
-
-            Person updatedPerson = new Person(
-                    person.getStudentId(),
-                    person.getName(),
-                    person.getPhone(),
-                    person.getEmail(),
-                    person.getTags(),
-                    person.getGithubUsername(),
-                    person.getExerciseTracker(),
-                    updatedLabList, // New LabList with updated weeks
-                    person.getGradeMap()
-            );
-
-            model.setPerson(person, updatedPerson);
-            updatedCount++;
-        }
-
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, currentWeekNumber, updatedCount));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, currentWeek.getWeekNumber()));
     }
 
     @Override
@@ -3,40 +3,60 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_CRITERION;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.sortcriterion.SortCriterion;
 
 /**
- * Sorts the students in the address book by a specified criterion.
+ * Sorts the students in the address book by one or more criteria.
  */
 public class SortCommand extends Command {
     public static final String COMMAND_WORD = "sort";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the students in the display list "
-            + "by the specified criterion\n"
-            + "Parameters: " + PREFIX_SORT_CRITERION + "SORTCRITERION (must be one of 'name', 'id', 'lab', 'ex')\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_SORT_CRITERION + "name";
+            + "by the specified criteria. Each criterion breaks the ties left by the ones before it.\n"
+            + "Parameters: " + PREFIX_SORT_CRITERION + "SORTCRITERION [" + SortCriterion.ASCENDING_KEYWORD + "/"
+            + SortCriterion.DESCENDING_KEYWORD + "] [" + PREFIX_SORT_CRITERION + "SORTCRITERION ["
+            + SortCriterion.ASCENDING_KEYWORD + "/" + SortCriterion.DESCENDING_KEYWORD + "]]... "
+            + "(SORTCRITERION must be one of 'name', 'id', 'lab', 'ex')\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_SORT_CRITERION + "lab "
+            + PREFIX_SORT_CRITERION + "name " + SortCriterion.DESCENDING_KEYWORD;
 
     public static final String MESSAGE_SUCCESS = "Sorted all students by %s";
 
-    private final SortCriterion sortCriterion;
+    private final List<SortCriterion> sortCriteria;
 
     /**
      * @param sortCriterion the criterion used to sort the students in the address book
      */
     public SortCommand(SortCriterion sortCriterion) {
-        requireNonNull(sortCriterion);
+        this(List.of(requireNonNull(sortCriterion)));
+    }
+
+    /**
+     * @param sortCriteria the criteria used to sort the students in the address book, from the most significant
+     */
+    public SortCommand(List<SortCriterion> sortCriteria) {
+        requireNonNull(sortCriteria);
+        if (sortCriteria.isEmpty()) {
+            throw new IllegalArgumentException("At least one sort criterion is required");
+        }
 
-        this.sortCriterion = sortCriterion;
+        this.sortCriteria = List.copyOf(sortCriteria);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.sortPersonList(sortCriterion.getComparator());
-        return new CommandResult(
-                String.format(MESSAGE_SUCCESS, sortCriterion.getDisplayString()));
+        model.saveAddressBook();
+        model.sortPersonList(sortCriteria);
+        String criteriaDisplay = sortCriteria.stream()
+                .map(criterion -> criterion.getDisplayString() + (criterion.isDescending() ? " (descending)" : ""))
+                .collect(Collectors.joining(", then by "));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, criteriaDisplay));
     }
 
     @Override
@@ -50,6 +70,6 @@ public class SortCommand extends Command {
         }
 
         SortCommand otherCommand = (SortCommand) other;
-        return this.sortCriterion.equals(otherCommand.sortCriterion);
+        return this.sortCriteria.equals(otherCommand.sortCriteria);
     }
 }
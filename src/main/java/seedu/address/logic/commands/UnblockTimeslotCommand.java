@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
@@ -10,6 +11,7 @@ import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.timeslot.RecurringTimeslot;
 import seedu.address.model.timeslot.Timeslot;
 
 /**
@@ -20,7 +22,8 @@ public class UnblockTimeslotCommand extends Command {
     public static final String COMMAND_WORD = "unblock-timeslot";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Removes a portion of stored timeslots that overlap the given range by trimming or splitting them.\n"
+            + ": Removes a portion of stored timeslots that overlap the given range by trimming or splitting them. "
+            + "Occurrences of recurring timeslots that lie wholly within the range are skipped.\n"
             + "Parameters: ts/START_DATETIME te/END_DATETIME\n"
             + "Accepted datetime formats:\n"
             + " - ISO_LOCAL_DATE_TIME: 2023-10-01T09:00:00\n"
@@ -28,6 +31,8 @@ public class UnblockTimeslotCommand extends Command {
             + "Example: " + COMMAND_WORD + " ts/2025-10-04T10:00:00 te/2025-10-04T13:00:00";
 
     public static final String MESSAGE_SUCCESS = "Updated stored timeslots: removed=%1$d added=%2$d";
+    public static final String MESSAGE_SUCCESS_WITH_SKIPPED =
+            "Updated stored timeslots: removed=%1$d added=%2$d skipped=%3$d";
     public static final String MESSAGE_TIMESLOT_NOT_FOUND = "No stored timeslot overlaps the given range: %1$s -> %2$s";
 
     private final Timeslot timeslot;
@@ -42,12 +47,26 @@ public class UnblockTimeslotCommand extends Command {
         Objects.requireNonNull(timeslot);
 
         // find stored timeslots that overlap the given range
-        List<Timeslot> stored = model.getTimeslots().getTimeslotList();
-        List<Timeslot> overlapping = stored.stream()
-                .filter(s -> overlaps(s, timeslot))
-                .collect(Collectors.toList());
+        List<Timeslot> overlapping = model.getTimeslots().getOverlappingTimeslots(timeslot);
+
+        // occurrences of recurring timeslots cannot be trimmed, so only those wholly within the range are skipped
+        List<RecurringTimeslot> rulesToReplace = new ArrayList<>();
+        List<RecurringTimeslot> replacements = new ArrayList<>();
+        int skippedCount = 0;
+        for (RecurringTimeslot rule : model.getTimeslots().getRecurringTimeslotList()) {
+            List<LocalDate> skippedDates = rule.getOccurrences(timeslot).stream()
+                    .filter(occurrence -> !occurrence.getStart().isBefore(timeslot.getStart())
+                            && !occurrence.getEnd().isAfter(timeslot.getEnd()))
+                    .map(occurrence -> occurrence.getStart().toLocalDate())
+                    .collect(Collectors.toList());
+            if (!skippedDates.isEmpty()) {
+                rulesToReplace.add(rule);
+                replacements.add(rule.withExceptions(skippedDates));
+                skippedCount += skippedDates.size();
+            }
+        }
 
-        if (overlapping.isEmpty()) {
+        if (overlapping.isEmpty() && rulesToReplace.isEmpty()) {
             String start = timeslot.getStart().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
             String end = timeslot.getEnd().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
             throw new CommandException(String.format(MESSAGE_TIMESLOT_NOT_FOUND, start, end));
@@ -95,13 +114,19 @@ public class UnblockTimeslotCommand extends Command {
         // apply removals and additions
         toRemove.forEach(model::removeTimeslot);
         toAdd.forEach(model::addTimeslot);
+        for (int i = 0; i < rulesToReplace.size(); i++) {
+            model.removeRecurringTimeslot(rulesToReplace.get(i));
+            RecurringTimeslot replacement = replacements.get(i);
+            if (replacement.hasOccurrences() && !model.hasRecurringTimeslot(replacement)) {
+                model.addRecurringTimeslot(replacement);
+            }
+        }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toRemove.size(), toAdd.size()));
-    }
-
-    // Two timeslots overlap if their intervals intersect (end > start and start < end).
-    private static boolean overlaps(Timeslot a, Timeslot b) {
-        return a.getEnd().isAfter(b.getStart()) && a.getStart().isBefore(b.getEnd());
+        if (skippedCount == 0) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, toRemove.size(), toAdd.size()));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS_WITH_SKIPPED, toRemove.size(), toAdd.size(),
+                skippedCount));
     }
 
     @Override
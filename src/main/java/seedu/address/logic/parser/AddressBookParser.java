@@ -9,6 +9,7 @@ import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BlockRecurringTimeslotCommand;
 import seedu.address.logic.commands.BlockTimeslotCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearTimeslotsCommand;
@@ -18,12 +19,14 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindFreeCommand;
 import seedu.address.logic.commands.GetTimeslotCommand;
 import seedu.address.logic.commands.GradeCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkAttendanceCommand;
 import seedu.address.logic.commands.MarkExerciseCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SetWeekCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.UnblockTimeslotCommand;
@@ -100,6 +103,9 @@ public class AddressBookParser {
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(arguments);
 
@@ -109,12 +115,18 @@ public class AddressBookParser {
         case BlockTimeslotCommand.COMMAND_WORD:
             return new BlockTimeslotCommandParser().parse(arguments);
 
+        case BlockRecurringTimeslotCommand.COMMAND_WORD:
+            return new BlockRecurringTimeslotCommandParser().parse(arguments);
+
         case UnblockTimeslotCommand.COMMAND_WORD:
             return new UnblockTimeslotCommandParser().parse(arguments);
 
         case ClearTimeslotsCommand.COMMAND_WORD:
             return new ClearTimeslotsCommandParser().parse(arguments);
 
+        case FindFreeCommand.COMMAND_WORD:
+            return new FindFreeCommandParser().parse(arguments);
+
         case FilterCommand.COMMAND_WORD:
             return new FilterCommandParser().parse(arguments);
 
@@ -0,0 +1,100 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKIPPED_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT_START;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEKS;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.BlockRecurringTimeslotCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.timeslot.RecurringTimeslot;
+import seedu.address.model.timeslot.Timeslot;
+
+/**
+ * Parses input arguments and creates a new {@code BlockRecurringTimeslotCommand} object.
+ */
+public class BlockRecurringTimeslotCommandParser implements Parser<BlockRecurringTimeslotCommand> {
+
+    public static final String MESSAGE_INVALID_WEEKS = "The number of weeks should be a positive number.";
+    public static final String MESSAGE_INVALID_RANGE = "Invalid datetime or range. End must be after start.\n"
+            + "Accepted formats:\n"
+            + " - ISO_LOCAL_DATE_TIME: 2023-10-01T09:00:00\n"
+            + " - Human-friendly: 4 Oct 2025, 10:00  OR  4 Oct 2025 10:00";
+    public static final String MESSAGE_INVALID_SKIPPED_DATE = "Invalid skipped date: %1$s\n"
+            + "Accepted formats: 2025-10-20  OR  20 Oct 2025";
+
+    // human-friendly date: "20 Oct 2025"
+    private static final DateTimeFormatter HUMAN_DATE = DateTimeFormatter.ofPattern("d MMM uuuu");
+
+    @Override
+    public BlockRecurringTimeslotCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_TIMESLOT_START, PREFIX_TIMESLOT_END, PREFIX_WEEKS, PREFIX_SKIPPED_DATE);
+
+        if (argMultimap.getValue(PREFIX_TIMESLOT_START).isEmpty()
+                || argMultimap.getValue(PREFIX_TIMESLOT_END).isEmpty()
+                || argMultimap.getValue(PREFIX_WEEKS).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    BlockRecurringTimeslotCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TIMESLOT_START, PREFIX_TIMESLOT_END, PREFIX_WEEKS);
+
+        Timeslot firstOccurrence;
+        try {
+            LocalDateTime start = BlockTimeslotCommandParser.parseFlexibleDateTime(
+                    argMultimap.getValue(PREFIX_TIMESLOT_START).get());
+            LocalDateTime end = BlockTimeslotCommandParser.parseFlexibleDateTime(
+                    argMultimap.getValue(PREFIX_TIMESLOT_END).get());
+            firstOccurrence = new Timeslot(start, end);
+        } catch (DateTimeException | IllegalArgumentException e) {
+            throw new ParseException(MESSAGE_INVALID_RANGE, e);
+        }
+
+        String weeks = argMultimap.getValue(PREFIX_WEEKS).get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(weeks)) {
+            throw new ParseException(MESSAGE_INVALID_WEEKS);
+        }
+
+        List<LocalDate> skippedDates = new ArrayList<>();
+        for (String date : argMultimap.getAllValues(PREFIX_SKIPPED_DATE)) {
+            skippedDates.add(parseDate(date));
+        }
+
+        try {
+            return new BlockRecurringTimeslotCommand(
+                    new RecurringTimeslot(firstOccurrence, Integer.parseInt(weeks), skippedDates));
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parses {@code input} as an ISO or human-friendly date.
+     */
+    private static LocalDate parseDate(String input) throws ParseException {
+        String trimmed = input.trim();
+        try {
+            return LocalDate.parse(trimmed, DateTimeFormatter.ISO_LOCAL_DATE);
+        } catch (DateTimeParseException e) {
+            // fall through to the human-friendly format
+        }
+        try {
+            return LocalDate.parse(trimmed, HUMAN_DATE);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_SKIPPED_DATE, trimmed), e);
+        }
+    }
+}
@@ -27,7 +27,12 @@ public class BlockTimeslotCommandParser implements Parser<BlockTimeslotCommand>
     private static final DateTimeFormatter ALTERNATE_NO_COMMA =
             DateTimeFormatter.ofPattern("d MMM uuuu HH:mm");
 
-    private static LocalDateTime parseFlexibleDateTime(String input) throws DateTimeParseException {
+    /**
+     * Parses {@code input} as an ISO or human-friendly datetime.
+     *
+     * @throws DateTimeParseException if {@code input} is in none of the accepted formats.
+     */
+    static LocalDateTime parseFlexibleDateTime(String input) throws DateTimeParseException {
         Objects.requireNonNull(input);
         String trimmed = input.trim();
 
@@ -22,4 +22,8 @@ public class CliSyntax {
     // Timeslot prefixes
     public static final Prefix PREFIX_TIMESLOT_START = new Prefix("ts/"); // e.g. ts/2023-10-01T09:00:00
     public static final Prefix PREFIX_TIMESLOT_END = new Prefix("te/"); // e.g. te/2023-10-01T10:00:00
+    public static final Prefix PREFIX_DURATION = new Prefix("d/"); // in minutes, e.g. d/30
+    public static final Prefix PREFIX_LIMIT = new Prefix("top/"); // e.g. top/3
+    public static final Prefix PREFIX_WEEKS = new Prefix("w/"); // e.g. w/13
+    public static final Prefix PREFIX_SKIPPED_DATE = new Prefix("x/"); // e.g. x/20 Oct 2025
 }
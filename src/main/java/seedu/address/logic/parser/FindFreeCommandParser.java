@@ -0,0 +1,73 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIMESLOT_START;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.FindFreeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.timeslot.Timeslot;
+
+/**
+ * Parses input arguments and creates a new {@code FindFreeCommand} object.
+ */
+public class FindFreeCommandParser implements Parser<FindFreeCommand> {
+
+    public static final String MESSAGE_INVALID_DURATION = "Duration should be a positive number of minutes.";
+    public static final String MESSAGE_INVALID_LIMIT = "The number of free timeslots to list should be positive.";
+    public static final String MESSAGE_INVALID_RANGE = "Invalid datetime or range. End must be after start.\n"
+            + "Accepted formats:\n"
+            + " - ISO_LOCAL_DATE_TIME: 2023-10-01T09:00:00\n"
+            + " - Human-friendly: 4 Oct 2025, 10:00  OR  4 Oct 2025 10:00";
+
+    @Override
+    public FindFreeCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_TIMESLOT_START, PREFIX_TIMESLOT_END, PREFIX_DURATION, PREFIX_LIMIT);
+
+        if (argMultimap.getValue(PREFIX_TIMESLOT_START).isEmpty()
+                || argMultimap.getValue(PREFIX_TIMESLOT_END).isEmpty()
+                || argMultimap.getValue(PREFIX_DURATION).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFreeCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TIMESLOT_START, PREFIX_TIMESLOT_END, PREFIX_DURATION,
+                PREFIX_LIMIT);
+
+        Timeslot window;
+        try {
+            LocalDateTime start = BlockTimeslotCommandParser.parseFlexibleDateTime(
+                    argMultimap.getValue(PREFIX_TIMESLOT_START).get());
+            LocalDateTime end = BlockTimeslotCommandParser.parseFlexibleDateTime(
+                    argMultimap.getValue(PREFIX_TIMESLOT_END).get());
+            window = new Timeslot(start, end);
+        } catch (DateTimeException | IllegalArgumentException e) {
+            throw new ParseException(MESSAGE_INVALID_RANGE, e);
+        }
+
+        String minutes = argMultimap.getValue(PREFIX_DURATION).get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(minutes)) {
+            throw new ParseException(MESSAGE_INVALID_DURATION);
+        }
+
+        int limit = Integer.MAX_VALUE;
+        if (argMultimap.getValue(PREFIX_LIMIT).isPresent()) {
+            String limitString = argMultimap.getValue(PREFIX_LIMIT).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(limitString)) {
+                throw new ParseException(MESSAGE_INVALID_LIMIT);
+            }
+            limit = Integer.parseInt(limitString);
+        }
+
+        return new FindFreeCommand(window, Duration.ofMinutes(Integer.parseInt(minutes)), limit);
+    }
+}
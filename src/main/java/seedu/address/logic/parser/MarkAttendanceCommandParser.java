@@ -4,12 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LAB_NUMBER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.core.index.MultiIndex;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.MarkAttendanceCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new {@code MarkAttendanceCommand} object.
@@ -25,14 +29,23 @@ public class MarkAttendanceCommandParser implements Parser<MarkAttendanceCommand
     public MarkAttendanceCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
-                PREFIX_LAB_NUMBER, PREFIX_STATUS);
+                PREFIX_LAB_NUMBER, PREFIX_STATUS, PREFIX_TAG);
 
-        MultiIndex multiIndex;
+        MultiIndex multiIndex = null;
+        Tag tagGroup = null;
         Index labNumber;
         boolean isAttended;
 
         try {
-            multiIndex = ParserUtil.parseMultiIndex(argMultimap.getPreamble());
+            argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TAG);
+            Optional<String> tagGroupValue = argMultimap.getValue(PREFIX_TAG);
+            if (tagGroupValue.isPresent() && argMultimap.getPreamble().isEmpty()) {
+                tagGroup = ParserUtil.parseTag(tagGroupValue.get());
+            } else if (tagGroupValue.isPresent()) {
+                throw new IllegalValueException("Specify either an index or a tag, not both.");
+            } else {
+                multiIndex = ParserUtil.parseMultiIndex(argMultimap.getPreamble());
+            }
             labNumber = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_LAB_NUMBER)
                     .orElseThrow(() -> new IllegalValueException("Missing lab number.")));
             isAttended = ParserUtil.parseLabStatus(argMultimap.getValue(PREFIX_STATUS)
@@ -42,6 +55,8 @@ public class MarkAttendanceCommandParser implements Parser<MarkAttendanceCommand
                     MarkAttendanceCommand.MESSAGE_USAGE), e);
         }
 
-        return new MarkAttendanceCommand(multiIndex, labNumber, isAttended);
+        return tagGroup != null
+                ? new MarkAttendanceCommand(tagGroup, labNumber, isAttended)
+                : new MarkAttendanceCommand(multiIndex, labNumber, isAttended);
     }
 }
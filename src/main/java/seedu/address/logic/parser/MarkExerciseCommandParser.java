@@ -3,8 +3,10 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EXERCISE_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.core.index.MultiIndex;
@@ -12,6 +14,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.MarkExerciseCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Status;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parser of the mark exercise command
@@ -27,15 +30,24 @@ public class MarkExerciseCommandParser implements Parser<MarkExerciseCommand> {
      */
     public MarkExerciseCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_EXERCISE_INDEX, PREFIX_STATUS);
-        MultiIndex personIndex;
+                ArgumentTokenizer.tokenize(args, PREFIX_EXERCISE_INDEX, PREFIX_STATUS, PREFIX_TAG);
+        MultiIndex personIndex = null;
+        Tag tagGroup = null;
         Index exerciseIndex;
         Status status;
         String statusString;
 
-        // Parse the person index (from the command preamble)
+        // Parse the person index (from the command preamble) or the tag group
         try {
-            personIndex = ParserUtil.parseMultiIndex(argMultimap.getPreamble());
+            argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TAG);
+            Optional<String> tagGroupValue = argMultimap.getValue(PREFIX_TAG);
+            if (tagGroupValue.isPresent() && argMultimap.getPreamble().isEmpty()) {
+                tagGroup = ParserUtil.parseTag(tagGroupValue.get());
+            } else if (tagGroupValue.isPresent()) {
+                throw new IllegalValueException("Specify either an index or a tag, not both.");
+            } else {
+                personIndex = ParserUtil.parseMultiIndex(argMultimap.getPreamble());
+            }
             exerciseIndex = ParserUtil.parseZeroBasedIndex(
                     argMultimap.getValue(PREFIX_EXERCISE_INDEX).orElseThrow(() -> new ParseException(
                             String.format(EMPTY_PREFIX_FORMAT, PREFIX_STATUS)
@@ -56,7 +68,9 @@ public class MarkExerciseCommandParser implements Parser<MarkExerciseCommand> {
         }
 
         // Return new command
-        return new MarkExerciseCommand(personIndex, exerciseIndex, status);
+        return tagGroup != null
+                ? new MarkExerciseCommand(tagGroup, exerciseIndex, status)
+                : new MarkExerciseCommand(personIndex, exerciseIndex, status);
     }
 }
 
@@ -4,6 +4,7 @@ import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.GradeCommandParser.MESSAGE_INVALID_EXAM_NAME_FORMAT;
 import static seedu.address.logic.parser.MarkExerciseCommandParser.INVALID_STATUS_FORMAT;
 
 import java.util.ArrayList;
@@ -19,12 +20,11 @@ import seedu.address.commons.core.index.MultiIndex;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Email;
-import seedu.address.model.person.Examination;
+import seedu.address.model.person.ExamKind;
 import seedu.address.model.person.ExerciseTracker;
 import seedu.address.model.person.GithubUsername;
 import seedu.address.model.person.GradeMap;
 import seedu.address.model.person.Lab;
-import seedu.address.model.person.LabAttendance;
 import seedu.address.model.person.LabAttendanceList;
 import seedu.address.model.person.LabList;
 import seedu.address.model.person.Name;
@@ -171,7 +171,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -247,18 +247,14 @@ public class ParserUtil {
             throw new ParseException(LabList.MESSAGE_CONSTRAINTS);
         }
 
-        LabAttendance[] labs = new LabAttendance[LabList.NUMBER_OF_LABS];
         String[] parts = trimmed.split("\\s+");
-
-        for (int i = 0; i < labs.length; i++) {
-            String status = parts[i * 2 + 1];
-
-            labs[i] = new Lab(i + 1, LabList.getCurrentWeek());
-            if (status.equals("Y")) {
-                labs[i].markAsAttended();
+        int attendedMask = 0;
+        for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
+            if (parts[i * 2 + 1].equals(LabList.STATUS_ATTENDED)) {
+                attendedMask |= 1 << i;
             }
         }
-        return new LabList(labs);
+        return LabList.fromAttendedMask(attendedMask);
     }
     /**
      * Parses a {@code String exerciseTrackerString} into an {@code ExerciseTracker}.
@@ -300,15 +296,15 @@ public class ParserUtil {
             }
             String name = parts[0].trim().toLowerCase();
             String scoreStr = parts[1].trim();
-            Examination exam = new Examination(name);
+            ExamKind examKind = ExamKind.fromExamName(name).orElseThrow(() -> new ParseException(String.format(
+                    MESSAGE_INVALID_EXAM_NAME_FORMAT, name, Arrays.toString(GradeMap.VALID_EXAM_NAMES))));
             if (!scoreStr.equalsIgnoreCase("NA")) {
                 try {
-                    exam.setPercentageScore(Double.parseDouble(scoreStr));
+                    gradeMap.setPercentageScore(examKind, Double.parseDouble(scoreStr));
                 } catch (InvalidScoreException e) {
                     throw new ParseException(e.getMessage());
                 }
             }
-            gradeMap.putExam(name, exam);
         }
 
         return gradeMap;
@@ -316,26 +312,52 @@ public class ParserUtil {
 
     /**
      * Parses a {@code String criterionString} into a {@code SortCriterion}.
-     * Leading and trailing whitespaces will be trimmed.
+     * The criterion keyword may be followed by the direction to sort in, otherwise the criterion sorts in its
+     * default direction. Leading and trailing whitespaces will be trimmed.
      *
      * @throws ParseException if the given {@code criterionString} is not a valid criterion.
      */
     public static SortCriterion parseSortCriterion(String criterionString) throws ParseException {
         requireNonNull(criterionString);
-        String trimmedCriterion = criterionString.trim().toLowerCase();
+        String[] parts = criterionString.trim().toLowerCase().split("\\s+");
+        if (parts.length > 2) {
+            throw new ParseException(SortCriterion.MESSAGE_CONSTRAINTS);
+        }
+        Optional<Boolean> isDescending = parts.length == 2
+                ? Optional.of(parseSortDirection(parts[1]))
+                : Optional.empty();
 
-        switch (trimmedCriterion) {
+        switch (parts[0]) {
         case NameSortCriterion.CRITERION_KEYWORD:
-            return new NameSortCriterion();
+            return isDescending.map(NameSortCriterion::new).orElseGet(NameSortCriterion::new);
 
         case StudentIdSortCriterion.CRITERION_KEYWORD:
-            return new StudentIdSortCriterion();
+            return isDescending.map(StudentIdSortCriterion::new).orElseGet(StudentIdSortCriterion::new);
 
         case LabSortCriterion.CRITERION_KEYWORD:
-            return new LabSortCriterion();
+            return isDescending.map(LabSortCriterion::new).orElseGet(LabSortCriterion::new);
 
         case ExerciseSortCriterion.CRITERION_KEYWORD:
-            return new ExerciseSortCriterion();
+            return isDescending.map(ExerciseSortCriterion::new).orElseGet(ExerciseSortCriterion::new);
+
+        default:
+            throw new ParseException(SortCriterion.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * Returns true if {@code direction} is the keyword for descending order, and false if it is the keyword for
+     * ascending order.
+     *
+     * @throws ParseException if {@code direction} is neither.
+     */
+    private static boolean parseSortDirection(String direction) throws ParseException {
+        switch (direction) {
+        case SortCriterion.ASCENDING_KEYWORD:
+            return false;
+
+        case SortCriterion.DESCENDING_KEYWORD:
+            return true;
 
         default:
             throw new ParseException(SortCriterion.MESSAGE_CONSTRAINTS);
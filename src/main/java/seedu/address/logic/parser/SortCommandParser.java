@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_CRITERION;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -24,13 +27,20 @@ public class SortCommandParser implements Parser<SortCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SORT_CRITERION);
 
-        SortCriterion sortCriterion;
+        List<String> criterionStrings = argMultimap.getAllValues(PREFIX_SORT_CRITERION);
+        if (criterionStrings.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        }
+
+        List<SortCriterion> sortCriteria = new ArrayList<>();
         try {
-            sortCriterion = ParserUtil.parseSortCriterion(argMultimap.getValue(PREFIX_SORT_CRITERION).orElse(""));
+            for (String criterionString : criterionStrings) {
+                sortCriteria.add(ParserUtil.parseSortCriterion(criterionString));
+            }
         } catch (IllegalValueException ive) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE), ive);
         }
 
-        return new SortCommand(sortCriterion);
+        return new SortCommand(sortCriteria);
     }
 }
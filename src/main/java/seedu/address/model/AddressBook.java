@@ -1,23 +1,53 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GithubUsername;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFieldIndex;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.SearchableField;
+import seedu.address.model.person.StatusBitmapIndex;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.TrigramIndex;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.predicates.StatusBitmapPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Emails, phones and GitHub usernames are indexed (case-insensitively) for constant-time lookup,
+ * every other searchable field is trigram-indexed to narrow down keyword searches, tags have member posting lists,
+ * and exercise and lab statuses are kept in a bitmap index for filtering.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
-    private Week currentWeek;
+    private final PersonFieldIndex emailIndex;
+    private final PersonFieldIndex phoneIndex;
+    private final PersonFieldIndex githubUsernameIndex;
+    private final TrigramIndex trigramIndex;
+    private final StatusBitmapIndex statusIndex;
+    private final TagIndex tagIndex;
+    private final ObjectProperty<Week> currentWeek;
+    private DataChangeListener changeListener;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -28,7 +58,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
-        currentWeek = new Week(0); // Set default to week 0
+        emailIndex = new PersonFieldIndex(person -> person.getEmail().value);
+        phoneIndex = new PersonFieldIndex(person -> person.getPhone().value);
+        githubUsernameIndex = new PersonFieldIndex(person -> person.getGithubUsername().value);
+        trigramIndex = new TrigramIndex(EnumSet.complementOf(EnumSet.of(SearchableField.TAG)));
+        statusIndex = new StatusBitmapIndex();
+        tagIndex = new TagIndex();
+        currentWeek = new SimpleObjectProperty<>(new Week(0)); // Set default to week 0
+        changeListener = new DataChangeListener() {};
     }
 
     public AddressBook() {}
@@ -48,7 +85,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        version++;
         this.persons.setPersons(persons);
+        List<Person> newPersons = this.persons.asUnmodifiableObservableList();
+        emailIndex.setPersons(newPersons);
+        phoneIndex.setPersons(newPersons);
+        githubUsernameIndex.setPersons(newPersons);
+        trigramIndex.setPersons(newPersons);
+        statusIndex.setPersons(newPersons);
+        tagIndex.setPersons(newPersons);
+        changeListener.personsReset(newPersons);
     }
 
     /**
@@ -76,7 +122,28 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        version++;
         persons.add(p);
+        indexPerson(p);
+        changeListener.personAdded(persons.asUnmodifiableObservableList().size() - 1, p);
+    }
+
+    /**
+     * Inserts a person into the address book at position {@code index}.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        version++;
+        persons.add(index, p);
+        indexPerson(p);
+        changeListener.personAdded(index, p);
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    public int indexOf(Person person) {
+        return persons.indexOf(person);
     }
 
     /**
@@ -87,16 +154,126 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        version++;
         persons.setPerson(target, editedPerson);
+        unindexPerson(target);
+        indexPerson(editedPerson);
+        changeListener.personReplaced(target, editedPerson);
     }
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position of {@code editedPersons}.
+     * Either every replacement is made or, if any of them is invalid, none is.
+     * Each target must exist in the address book. The person identity of an edited person must not be the same as
+     * that of any other person in the address book after the replacements.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+
+        version++;
+        persons.setPersons(targets, editedPersons);
+        for (int i = 0; i < targets.size(); i++) {
+            unindexPerson(targets.get(i));
+            indexPerson(editedPersons.get(i));
+        }
+        changeListener.personsReplaced(targets, editedPersons);
+    }
 
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        version++;
         persons.remove(key);
+        unindexPerson(key);
+        changeListener.personRemoved(key);
+    }
+
+    /**
+     * Returns the person with the given {@code studentId}, if any.
+     */
+    public Optional<Person> findPersonByStudentId(StudentId studentId) {
+        requireNonNull(studentId);
+        return persons.getPersons(List.of(studentId)).stream().findFirst();
+    }
+
+    /**
+     * Returns the persons with the given {@code email}, ignoring case.
+     */
+    public List<Person> findPersonsByEmail(Email email) {
+        requireNonNull(email);
+        return emailIndex.find(email.value);
+    }
+
+    /**
+     * Returns the persons with the given {@code phone}.
+     */
+    public List<Person> findPersonsByPhone(Phone phone) {
+        requireNonNull(phone);
+        return phoneIndex.find(phone.value);
+    }
+
+    /**
+     * Returns the persons with the given {@code githubUsername}, ignoring case.
+     */
+    public List<Person> findPersonsByGithubUsername(GithubUsername githubUsername) {
+        requireNonNull(githubUsername);
+        return githubUsernameIndex.find(githubUsername.value);
+    }
+
+    /**
+     * Returns the student IDs of the persons whose {@code field} may contain {@code keyword}, ignoring case.
+     * The candidates are a superset of the actual matches and must still be verified.
+     * Returns an empty {@code Optional} if the keyword is too short to narrow down the search.
+     */
+    public Optional<Set<StudentId>> getSearchCandidates(SearchableField field, String keyword) {
+        requireNonNull(field);
+        if (field == SearchableField.TAG) {
+            return Optional.of(tagIndex.getMembersOfTagsContaining(keyword));
+        }
+        return trigramIndex.getCandidates(field, keyword);
+    }
+
+    /**
+     * Returns the persons tagged with {@code tag}, ignoring case, in the order they appear in the address book.
+     */
+    public List<Person> getTagGroup(Tag tag) {
+        requireNonNull(tag);
+        return persons.getPersons(tagIndex.getMembers(tag));
+    }
+
+    /**
+     * Returns the student IDs of the persons that satisfy every one of the non-empty {@code predicates},
+     * answered from the status bitmap index.
+     */
+    public Set<StudentId> findStatusMatches(List<StatusBitmapPredicate> predicates) {
+        requireNonNull(predicates);
+        assert !predicates.isEmpty();
+
+        BitSet matches = predicates.get(0).getMatches(statusIndex);
+        for (int i = 1; i < predicates.size() && !matches.isEmpty(); i++) {
+            matches.and(predicates.get(i).getMatches(statusIndex));
+        }
+        return statusIndex.getStudentIds(matches);
+    }
+
+    private void indexPerson(Person person) {
+        emailIndex.add(person);
+        phoneIndex.add(person);
+        githubUsernameIndex.add(person);
+        trigramIndex.add(person);
+        statusIndex.add(person);
+        tagIndex.add(person);
+    }
+
+    private void unindexPerson(Person person) {
+        emailIndex.remove(person);
+        phoneIndex.remove(person);
+        githubUsernameIndex.remove(person);
+        trigramIndex.remove(person);
+        statusIndex.remove(person);
+        tagIndex.remove(person);
     }
 
     /**
@@ -104,17 +281,51 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void sortPersons(Comparator<Person> comparator) {
         requireNonNull(comparator);
+        version++;
         persons.sort(comparator);
+        changeListener.personsReordered(persons.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Rearranges the person list into the order of {@code orderedPersons}, which must hold exactly the persons in
+     * the list.
+     */
+    public void reorderPersons(List<Person> orderedPersons) {
+        requireNonNull(orderedPersons);
+        version++;
+        persons.reorder(orderedPersons);
+        changeListener.personsReordered(persons.asUnmodifiableObservableList());
     }
 
     //// week-level operations
 
+    /**
+     * Sets the current week of the semester. Lab statuses are worked out from the current week when they are
+     * read, so no person has to be replaced.
+     */
     public void setCurrentWeek(Week currentWeek) {
         requireNonNull(currentWeek);
-        this.currentWeek = currentWeek;
+        version++;
+        this.currentWeek.set(currentWeek);
+        changeListener.weekChanged(currentWeek);
+    }
+
+    /**
+     * Sets the listener that is told about every change made to this address book from now on.
+     */
+    public void setChangeListener(DataChangeListener changeListener) {
+        requireNonNull(changeListener);
+        this.changeListener = changeListener;
     }
 
     public Week getCurrentWeek() {
+        return currentWeek.get();
+    }
+
+    /**
+     * Returns the current week as an observable value, which is updated whenever the week is set.
+     */
+    public ObservableValue<Week> getObservableCurrentWeek() {
         return currentWeek;
     }
 
@@ -124,7 +335,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public String toString() {
         return new ToStringBuilder(this)
                 .add("persons", persons)
-                .add("currentWeek", currentWeek.getWeekNumber())
+                .add("currentWeek", getCurrentWeek().getWeekNumber())
                 .toString();
     }
 
@@ -133,6 +344,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -146,7 +362,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         AddressBook otherAddressBook = (AddressBook) other;
         return persons.equals(otherAddressBook.persons)
-                && currentWeek.equals(otherAddressBook.currentWeek);
+                && getCurrentWeek().equals(otherAddressBook.getCurrentWeek());
     }
 
     @Override
@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.timeslot.RecurringTimeslot;
+import seedu.address.model.timeslot.Timeslot;
+
+/**
+ * Receives every change made to an {@code AddressBook} or {@code Timeslots}, right after it is made.
+ * All methods do nothing by default, so listeners only need to override the changes they are interested in.
+ */
+public interface DataChangeListener {
+
+    /**
+     * Called after {@code person} is inserted at position {@code index} of the person list.
+     */
+    default void personAdded(int index, Person person) {}
+
+    /**
+     * Called after {@code person} is removed from the person list.
+     */
+    default void personRemoved(Person person) {}
+
+    /**
+     * Called after {@code target} is replaced by {@code editedPerson} in the person list.
+     */
+    default void personReplaced(Person target, Person editedPerson) {}
+
+    /**
+     * Called after each person in {@code targets} is replaced by the person at the same position of
+     * {@code editedPersons}, all at once. By default, each replacement is passed to
+     * {@link #personReplaced(Person, Person)} in turn.
+     */
+    default void personsReplaced(List<Person> targets, List<Person> editedPersons) {
+        for (int i = 0; i < targets.size(); i++) {
+            personReplaced(targets.get(i), editedPersons.get(i));
+        }
+    }
+
+    /**
+     * Called after the person list is reordered, with the persons in their new order.
+     */
+    default void personsReordered(List<Person> persons) {}
+
+    /**
+     * Called after the whole person list is replaced by {@code persons}.
+     */
+    default void personsReset(List<Person> persons) {}
+
+    /**
+     * Called after the current week is changed to {@code week}.
+     */
+    default void weekChanged(Week week) {}
+
+    /**
+     * Called after {@code timeslot} is added.
+     */
+    default void timeslotAdded(Timeslot timeslot) {}
+
+    /**
+     * Called after {@code timeslot} is removed.
+     */
+    default void timeslotRemoved(Timeslot timeslot) {}
+
+    /**
+     * Called after all timeslots are replaced by {@code timeslots}.
+     */
+    default void timeslotsReset(List<Timeslot> timeslots) {}
+
+    /**
+     * Called after {@code recurringTimeslot} is added.
+     */
+    default void recurringTimeslotAdded(RecurringTimeslot recurringTimeslot) {}
+
+    /**
+     * Called after {@code recurringTimeslot} is removed.
+     */
+    default void recurringTimeslotRemoved(RecurringTimeslot recurringTimeslot) {}
+
+    /**
+     * Called after all recurring timeslots are replaced by {@code recurringTimeslots}.
+     */
+    default void recurringTimeslotsReset(List<RecurringTimeslot> recurringTimeslots) {}
+}
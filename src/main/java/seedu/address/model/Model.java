@@ -2,11 +2,24 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GithubUsername;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.SearchableField;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.predicates.StatusBitmapPredicate;
+import seedu.address.model.person.sortcriterion.SortCriterion;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.timeslot.RecurringTimeslot;
 import seedu.address.model.timeslot.Timeslot;
 
 /**
@@ -78,6 +91,46 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position of {@code editedPersons},
+     * as a single change. Either every replacement is made or, if any of them is invalid, none is.
+     * Each target must exist in the address book. The person identity of an edited person must not be the same as
+     * that of any other person in the address book after the replacements.
+     */
+    void setPersons(List<Person> targets, List<Person> editedPersons);
+
+    /**
+     * Returns the persons in the address book with the given {@code email}, ignoring case.
+     */
+    List<Person> findPersonsByEmail(Email email);
+
+    /**
+     * Returns the persons in the address book with the given {@code phone}.
+     */
+    List<Person> findPersonsByPhone(Phone phone);
+
+    /**
+     * Returns the persons in the address book with the given {@code githubUsername}, ignoring case.
+     */
+    List<Person> findPersonsByGithubUsername(GithubUsername githubUsername);
+
+    /**
+     * Returns the student IDs of the persons whose {@code field} may contain {@code keyword}, ignoring case.
+     * The candidates are a superset of the actual matches and must still be verified.
+     * Returns an empty {@code Optional} if the keyword is too short to narrow down the search.
+     */
+    Optional<Set<StudentId>> getSearchCandidates(SearchableField field, String keyword);
+
+    /**
+     * Returns the student IDs of the persons that satisfy every one of the non-empty {@code predicates}.
+     */
+    Set<StudentId> findStatusMatches(List<StatusBitmapPredicate> predicates);
+
+    /**
+     * Returns the persons tagged with {@code tag}, ignoring case, in address book order.
+     */
+    List<Person> getTagGroup(Tag tag);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -92,6 +145,22 @@ public interface Model {
      */
     void saveAddressBook();
 
+    /**
+     * Ends the undoable step started by the last {@link #saveAddressBook()}, so that later changes are not undone
+     * with it.
+     */
+    void endUndoableStep();
+
+    /**
+     * Returns the modification version of the address book, which increases every time it is changed.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Returns the modification version of the timeslots, which increases every time they are changed.
+     */
+    long getTimeslotsVersion();
+
     /**
      * Returns true if the model has a previous address book state to restore.
      */
@@ -102,12 +171,28 @@ public interface Model {
      */
     void undoAddressBook();
 
+    /**
+     * Returns true if the model has an undone address book state to reapply.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Reapplies the most recently undone change to the model's address book.
+     */
+    void redoAddressBook();
+
     /**
      * Sorts the person list using the given comparator.
      * @throws NullPointerException if {@code comparator} is null.
      */
     void sortPersonList(Comparator<Person> comparator);
 
+    /**
+     * Sorts the person list by {@code criteria}, each criterion breaking the ties left by the ones before it.
+     * @throws NullPointerException if {@code criteria} is null.
+     */
+    void sortPersonList(List<SortCriterion> criteria);
+
     // ===== Timeslots-related APIs =====
     /**
      * Returns the timeslots as an unmodifiable view.
@@ -135,7 +220,23 @@ public interface Model {
     void removeTimeslot(Timeslot timeslot);
 
     /**
-     * Clears all timeslots.
+     * Returns true if the model has the given recurring timeslot.
+     */
+    boolean hasRecurringTimeslot(RecurringTimeslot recurringTimeslot);
+
+    /**
+     * Adds the given recurring timeslot.
+     * {@code recurringTimeslot} must not already exist in the model.
+     */
+    void addRecurringTimeslot(RecurringTimeslot recurringTimeslot);
+
+    /**
+     * Removes the given recurring timeslot.
+     */
+    void removeRecurringTimeslot(RecurringTimeslot recurringTimeslot);
+
+    /**
+     * Clears all timeslots and recurring timeslots.
      */
     void clearTimeslots();
 
@@ -148,4 +249,10 @@ public interface Model {
      * Gets the current week number
      */
     Week getCurrentWeek();
+
+    /**
+     * Returns the current week as an observable value, which changes whenever the current week is set, undone or
+     * redone.
+     */
+    ObservableValue<Week> getObservableCurrentWeek();
 }
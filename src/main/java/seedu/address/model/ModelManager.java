@@ -4,15 +4,30 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GithubUsername;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.SearchableField;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.predicates.StatusBitmapPredicate;
+import seedu.address.model.person.sortcriterion.PersonSorter;
+import seedu.address.model.person.sortcriterion.SortCriterion;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.timeslot.RecurringTimeslot;
 import seedu.address.model.timeslot.Timeslot;
 
 /**
@@ -24,8 +39,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
-    private ReadOnlyAddressBook previousAddressBookState;
-    private ReadOnlyTimeslots previousTimeslotsState;
+    private final UndoHistory history;
 
     // Add timeslots managed by the model
     private Timeslots timeslots;
@@ -40,8 +54,9 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        this.timeslots = new Timeslots(); // default empty timeslots
+        this.timeslots = new Timeslots(true); // default empty timeslots
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        history = new UndoHistory(this.userPrefs.getUndoLimit(), UndoHistory.DEFAULT_MEMORY_BUDGET);
     }
 
     /**
@@ -55,10 +70,10 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        this.timeslots = new Timeslots(timeslots);
+        this.timeslots = new Timeslots(true);
+        this.timeslots.resetData(timeslots);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        this.previousAddressBookState = null;
-        this.previousTimeslotsState = null;
+        history = new UndoHistory(this.userPrefs.getUndoLimit(), UndoHistory.DEFAULT_MEMORY_BUDGET);
     }
 
     public ModelManager() {
@@ -70,6 +85,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setMaxDepth(this.userPrefs.getUndoLimit());
     }
 
     @Override
@@ -103,7 +119,18 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        List<Person> oldPersons = List.copyOf(this.addressBook.getPersonList());
+        Week oldWeek = this.addressBook.getCurrentWeek();
         this.addressBook.resetData(addressBook);
+        List<Person> newPersons = List.copyOf(this.addressBook.getPersonList());
+        Week newWeek = this.addressBook.getCurrentWeek();
+        history.record((ab, ts) -> {
+            ab.setPersons(oldPersons);
+            ab.setCurrentWeek(oldWeek);
+        }, (ab, ts) -> {
+            ab.setPersons(newPersons);
+            ab.setCurrentWeek(newWeek);
+        }, oldPersons.size() + newPersons.size());
     }
 
     @Override
@@ -119,12 +146,15 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        int index = addressBook.indexOf(target);
         addressBook.removePerson(target);
+        history.record((ab, ts) -> ab.addPerson(index, target), (ab, ts) -> ab.removePerson(target), 1);
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        history.record((ab, ts) -> ab.removePerson(person), (ab, ts) -> ab.addPerson(person), 1);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -133,12 +163,87 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        history.record((ab, ts) -> ab.setPerson(editedPerson, target), (ab, ts) -> ab.setPerson(target, editedPerson),
+                2);
+    }
+
+    @Override
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+
+        List<Person> targetsCopy = List.copyOf(targets);
+        List<Person> editedPersonsCopy = List.copyOf(editedPersons);
+        addressBook.setPersons(targetsCopy, editedPersonsCopy);
+        history.record((ab, ts) -> ab.setPersons(editedPersonsCopy, targetsCopy),
+                (ab, ts) -> ab.setPersons(targetsCopy, editedPersonsCopy), targetsCopy.size() * 2);
+    }
+
+    @Override
+    public List<Person> findPersonsByEmail(Email email) {
+        requireNonNull(email);
+        return addressBook.findPersonsByEmail(email);
+    }
+
+    @Override
+    public List<Person> findPersonsByPhone(Phone phone) {
+        requireNonNull(phone);
+        return addressBook.findPersonsByPhone(phone);
+    }
+
+    @Override
+    public List<Person> findPersonsByGithubUsername(GithubUsername githubUsername) {
+        requireNonNull(githubUsername);
+        return addressBook.findPersonsByGithubUsername(githubUsername);
+    }
+
+    @Override
+    public Optional<Set<StudentId>> getSearchCandidates(SearchableField field, String keyword) {
+        requireAllNonNull(field, keyword);
+        return addressBook.getSearchCandidates(field, keyword);
+    }
+
+    @Override
+    public Set<StudentId> findStatusMatches(List<StatusBitmapPredicate> predicates) {
+        requireNonNull(predicates);
+        return addressBook.findStatusMatches(predicates);
+    }
+
+    @Override
+    public List<Person> getTagGroup(Tag tag) {
+        requireNonNull(tag);
+        return addressBook.getTagGroup(tag);
     }
 
     @Override
     public void sortPersonList(Comparator<Person> comparator) {
         requireNonNull(comparator);
+        List<Person> oldOrder = new ArrayList<>(addressBook.getPersonList());
         addressBook.sortPersons(comparator);
+        recordReorder(oldOrder, new ArrayList<>(addressBook.getPersonList()));
+    }
+
+    @Override
+    public void sortPersonList(List<SortCriterion> criteria) {
+        requireNonNull(criteria);
+        List<Person> oldOrder = new ArrayList<>(addressBook.getPersonList());
+        List<Person> newOrder = PersonSorter.sort(oldOrder, criteria);
+        addressBook.reorderPersons(newOrder);
+        recordReorder(oldOrder, newOrder);
+    }
+
+    private void recordReorder(List<Person> oldOrder, List<Person> newOrder) {
+        history.record((ab, ts) -> ab.reorderPersons(oldOrder), (ab, ts) -> ab.reorderPersons(newOrder),
+                oldOrder.size() + newOrder.size());
+    }
+
+    /**
+     * Sets the listener that is told about every change made to the address book and timeslots from now on,
+     * including the changes made by undo and redo.
+     */
+    public void setDataChangeListener(DataChangeListener listener) {
+        requireNonNull(listener);
+        addressBook.setChangeListener(listener);
+        timeslots.setChangeListener(listener);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -158,15 +263,29 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
-    //=========== Undo Command =================================================================================
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public long getTimeslotsVersion() {
+        return timeslots.getVersion();
+    }
+
+    //=========== Undo/Redo Commands ===========================================================================
 
     /**
-     * Saves the current address book state before making changes.
+     * Starts a new undoable step. Changes made to the address book and timeslots from now on are recorded into it.
      */
     @Override
     public void saveAddressBook() {
-        previousAddressBookState = new AddressBook(addressBook);
-        previousTimeslotsState = new Timeslots(timeslots);
+        history.beginEntry();
+    }
+
+    @Override
+    public void endUndoableStep() {
+        history.endEntry();
     }
 
     /**
@@ -174,22 +293,31 @@ public class ModelManager implements Model {
      */
     @Override
     public boolean canUndoAddressBook() {
-        return previousAddressBookState != null && previousTimeslotsState != null;
+        return history.canUndo();
     }
 
     /**
-     * Restores the address book to its previous state.
+     * Restores the address book and timeslots to their state before the most recent undoable step.
      */
     @Override
     public void undoAddressBook() {
-        if (!canUndoAddressBook()) {
-            throw new IllegalStateException("No previous state to undo!");
-        }
+        history.undo(addressBook, timeslots);
+    }
 
-        setAddressBook(previousAddressBookState);
-        setTimeslots(previousTimeslotsState);
-        previousAddressBookState = null;
-        previousTimeslotsState = null;
+    /**
+     * Returns true if there is an undone state to redo.
+     */
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    /**
+     * Reapplies the most recently undone step to the address book and timeslots.
+     */
+    @Override
+    public void redoAddressBook() {
+        history.redo(addressBook, timeslots);
     }
 
     /**
@@ -201,7 +329,11 @@ public class ModelManager implements Model {
 
     public void setTimeslots(ReadOnlyTimeslots newData) {
         requireNonNull(newData);
+        Timeslots oldTimeslots = new Timeslots(timeslots);
         this.timeslots.resetData(newData);
+        Timeslots newTimeslots = new Timeslots(timeslots);
+        history.record((ab, ts) -> ts.resetData(oldTimeslots), (ab, ts) -> ts.resetData(newTimeslots),
+                countEntries(oldTimeslots) + countEntries(newTimeslots));
     }
 
     /**
@@ -211,7 +343,13 @@ public class ModelManager implements Model {
      */
     public void addTimeslot(Timeslot t) {
         requireNonNull(t);
-        this.timeslots.addTimeslot(t);
+        List<Timeslot> mergedWith = timeslots.getTimeslotsMergedWith(t);
+        Timeslot added = this.timeslots.addTimeslot(t);
+        // the merged timeslots neither overlap nor touch each other, so adding them back does not merge them
+        history.record((ab, ts) -> {
+            ts.removeTimeslot(added);
+            mergedWith.forEach(ts::addTimeslot);
+        }, (ab, ts) -> ts.addTimeslot(t), 1 + mergedWith.size());
     }
 
     /**
@@ -222,7 +360,12 @@ public class ModelManager implements Model {
     @Override
     public void removeTimeslot(Timeslot t) {
         requireNonNull(t);
+        if (!timeslots.hasTimeslot(t)) {
+            return;
+        }
         this.timeslots.removeTimeslot(t);
+        // the timeslots are kept in order, so adding t back restores them exactly
+        history.record((ab, ts) -> ts.addTimeslot(t), (ab, ts) -> ts.removeTimeslot(t), 1);
     }
 
     /**
@@ -236,20 +379,54 @@ public class ModelManager implements Model {
         return this.timeslots.hasTimeslot(t);
     }
 
+    @Override
+    public boolean hasRecurringTimeslot(RecurringTimeslot r) {
+        requireNonNull(r);
+        return timeslots.hasRecurringTimeslot(r);
+    }
+
+    @Override
+    public void addRecurringTimeslot(RecurringTimeslot r) {
+        requireNonNull(r);
+        timeslots.addRecurringTimeslot(r);
+        // r is added last, so removing it restores the order of the others
+        history.record((ab, ts) -> ts.removeRecurringTimeslot(r), (ab, ts) -> ts.addRecurringTimeslot(r), 1);
+    }
+
+    @Override
+    public void removeRecurringTimeslot(RecurringTimeslot r) {
+        requireNonNull(r);
+        if (!timeslots.hasRecurringTimeslot(r)) {
+            return;
+        }
+        List<RecurringTimeslot> oldRecurringTimeslots = List.copyOf(timeslots.getRecurringTimeslotList());
+        timeslots.removeRecurringTimeslot(r);
+        history.record((ab, ts) -> ts.setRecurringTimeslots(oldRecurringTimeslots),
+                (ab, ts) -> ts.removeRecurringTimeslot(r), oldRecurringTimeslots.size());
+    }
+
     /**
-     * Clears all timeslots stored in the model.
+     * Clears all timeslots and recurring timeslots stored in the model.
      */
     @Override
     public void clearTimeslots() {
         requireNonNull(this.timeslots);
+        Timeslots oldTimeslots = new Timeslots(timeslots);
         this.timeslots.clear();
+        history.record((ab, ts) -> ts.resetData(oldTimeslots), (ab, ts) -> ts.clear(), countEntries(oldTimeslots));
+    }
+
+    private static int countEntries(ReadOnlyTimeslots timeslots) {
+        return timeslots.getTimeslotList().size() + timeslots.getRecurringTimeslotList().size();
     }
 
     //=========== CurrentWeek Accessors =============================================================
 
     @Override
     public void setCurrentWeek(Week currentWeek) {
+        Week oldWeek = addressBook.getCurrentWeek();
         addressBook.setCurrentWeek(currentWeek);
+        history.record((ab, ts) -> ab.setCurrentWeek(oldWeek), (ab, ts) -> ab.setCurrentWeek(currentWeek), 0);
     }
 
     @Override
@@ -257,6 +434,11 @@ public class ModelManager implements Model {
         return addressBook.getCurrentWeek();
     }
 
+    @Override
+    public ObservableValue<Week> getObservableCurrentWeek() {
+        return addressBook.getObservableCurrentWeek();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -19,4 +19,10 @@ public interface ReadOnlyAddressBook {
      */
     Week getCurrentWeek();
 
+    /**
+     * Returns the modification version of this address book, which increases every time it is changed.
+     * The version is increased before listeners of the person list are told about the change.
+     */
+    long getVersion();
+
 }
@@ -1,11 +1,47 @@
 package seedu.address.model;
 
+import java.time.Duration;
+import java.util.List;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.timeslot.RecurringTimeslot;
 import seedu.address.model.timeslot.Timeslot;
 
 /**
  * Unmodifiable view of a timeslots list.
  */
 public interface ReadOnlyTimeslots {
+    /**
+     * Returns the timeslots, ordered by start time and then end time.
+     */
     ObservableList<Timeslot> getTimeslotList();
+
+    /**
+     * Returns the recurring timeslots, in the order they were added.
+     */
+    ObservableList<RecurringTimeslot> getRecurringTimeslotList();
+
+    /**
+     * Returns the timeslots that overlap {@code range}, ordered by start time and then end time.
+     * Timeslots that only touch the start or end of {@code range} do not overlap it.
+     * Occurrences of recurring timeslots are not included.
+     */
+    List<Timeslot> getOverlappingTimeslots(Timeslot range);
+
+    /**
+     * Returns the periods within {@code window} that are blocked by a timeslot or by an occurrence of a recurring
+     * timeslot, merged so that no two of them overlap or touch, in order.
+     */
+    List<Timeslot> getBlockedTimeslots(Timeslot window);
+
+    /**
+     * Returns the earliest {@code limit} gaps within {@code window} that no timeslot and no occurrence of a recurring
+     * timeslot covers and that last at least {@code minDuration}, in order.
+     */
+    List<Timeslot> getFreeTimeslots(Timeslot window, Duration minDuration, int limit);
+
+    /**
+     * Returns the modification version of these timeslots, which increases every time they are changed.
+     */
+    long getVersion();
 }
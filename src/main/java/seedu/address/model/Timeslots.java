@@ -1,23 +1,55 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.timeslot.RecurringTimeslot;
 import seedu.address.model.timeslot.Timeslot;
+import seedu.address.model.timeslot.TimeslotTree;
 
 /**
  * Wraps all data at the timeslots level.
  * Duplicates are not allowed (by .equals comparison).
+ *
+ * The timeslots are kept in a {@link TimeslotTree} for lookups and overlap queries, and in an observable list
+ * ordered by {@link Timeslot#START_TIME_ORDER} for the UI and for ordered iteration. The recurring timeslots are
+ * observable too, so the UI can redraw when either changes. Only the queries take O(log n) time: adding or removing a
+ * timeslot still shifts the ordered list, which takes O(n).
+ *
+ * A Timeslots can also be created to merge overlaps. It then keeps its timeslots normalised: no two of them overlap
+ * or touch, and each timeslot added is merged with the ones it overlaps or touches as it is added.
+ *
+ * Recurring timeslots are kept as rules, apart from the timeslots, and are never merged with them. Their occurrences
+ * are only worked out for the window that is being queried.
  */
 public class Timeslots implements ReadOnlyTimeslots {
 
     private final ObservableList<Timeslot> times = FXCollections.observableArrayList();
+    private final TimeslotTree tree = new TimeslotTree();
+    private final ObservableList<RecurringTimeslot> recurringTimeslots = FXCollections.observableArrayList();
+    private final boolean isMergingOverlaps;
+    private DataChangeListener changeListener = new DataChangeListener() {};
+    private long version;
 
-    public Timeslots() {}
+    public Timeslots() {
+        this(false);
+    }
+
+    /**
+     * Creates an empty Timeslots, which merges overlapping timeslots if {@code isMergingOverlaps} is true.
+     */
+    public Timeslots(boolean isMergingOverlaps) {
+        this.isMergingOverlaps = isMergingOverlaps;
+    }
 
     /**
      * Creates a Timeslots using the Timeslots in the {@code toBeCopied}
@@ -32,10 +64,31 @@ public class Timeslots implements ReadOnlyTimeslots {
     /**
      * Replaces the contents of the timeslot list with {@code timeslots}.
      * {@code timeslots} must not contain duplicate timeslots.
+     * If this Timeslots merges overlaps, {@code timeslots} are merged before they are stored.
      */
     public void setTimeslots(List<Timeslot> timeslots) {
         requireNonNull(timeslots);
-        times.setAll(timeslots);
+        List<Timeslot> sortedTimeslots = new ArrayList<>(timeslots);
+        sortedTimeslots.sort(Timeslot.START_TIME_ORDER);
+        if (isMergingOverlaps) {
+            sortedTimeslots = mergeSorted(sortedTimeslots);
+        }
+        tree.clear();
+        sortedTimeslots.forEach(tree::add);
+        times.setAll(sortedTimeslots);
+        version++;
+        changeListener.timeslotsReset(times);
+    }
+
+    /**
+     * Replaces the recurring timeslots with {@code recurringTimeslots}.
+     * {@code recurringTimeslots} must not contain duplicate recurring timeslots.
+     */
+    public void setRecurringTimeslots(List<RecurringTimeslot> recurringTimeslots) {
+        requireNonNull(recurringTimeslots);
+        this.recurringTimeslots.setAll(recurringTimeslots);
+        version++;
+        changeListener.recurringTimeslotsReset(getRecurringTimeslotList());
     }
 
     /**
@@ -44,18 +97,66 @@ public class Timeslots implements ReadOnlyTimeslots {
     public void resetData(ReadOnlyTimeslots newData) {
         requireNonNull(newData);
         setTimeslots(newData.getTimeslotList());
+        setRecurringTimeslots(newData.getRecurringTimeslotList());
     }
 
     //// timeslot-level operations
 
     /**
      * Adds a timeslot to this Timeslots collection.
+     * If this Timeslots merges overlaps, the timeslots returned by {@link #getTimeslotsMergedWith(Timeslot)} are
+     * replaced by a single timeslot covering them and {@code t}.
+     * Finding where {@code t} goes takes O(log n), but inserting it into the ordered list takes O(n).
      *
      * @param t timeslot to add; must not be null.
+     * @return the timeslot that was stored.
      */
-    public void addTimeslot(Timeslot t) {
+    public Timeslot addTimeslot(Timeslot t) {
         requireNonNull(t);
-        times.add(t);
+        Timeslot added = t;
+        List<Timeslot> mergedWith = getTimeslotsMergedWith(t);
+        if (!mergedWith.isEmpty()) {
+            Timeslot first = mergedWith.get(0);
+            Timeslot last = mergedWith.get(mergedWith.size() - 1);
+            LocalDateTime start = first.getStart().isBefore(t.getStart()) ? first.getStart() : t.getStart();
+            LocalDateTime end = last.getEnd().isAfter(t.getEnd()) ? last.getEnd() : t.getEnd();
+            mergedWith.forEach(tree::remove);
+            int firstIndex = indexOf(first);
+            times.subList(firstIndex, firstIndex + mergedWith.size()).clear();
+            added = new Timeslot(start, end);
+        }
+        tree.add(added);
+        times.add(indexOf(added), added);
+        version++;
+        changeListener.timeslotAdded(t);
+        return added;
+    }
+
+    /**
+     * Returns the stored timeslots that {@code t} would be merged with if it were added, in order.
+     * These are the timeslots that overlap or touch {@code t}, or none if this Timeslots does not merge overlaps.
+     */
+    public List<Timeslot> getTimeslotsMergedWith(Timeslot t) {
+        requireNonNull(t);
+        if (!isMergingOverlaps) {
+            return List.of();
+        }
+        // The stored timeslots do not overlap, so they are ordered by end time as well as by start time.
+        int low = 0;
+        int high = times.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times.get(mid).getEnd().isBefore(t.getStart())) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int end = low;
+        while (end < times.size() && !times.get(end).getStart().isAfter(t.getEnd())) {
+            end++;
+        }
+        return List.copyOf(times.subList(low, end));
     }
 
     /**
@@ -66,30 +167,173 @@ public class Timeslots implements ReadOnlyTimeslots {
      */
     public boolean hasTimeslot(Timeslot t) {
         requireNonNull(t);
-        return times.contains(t);
+        return tree.contains(t);
     }
 
+    /**
+     * Removes one occurrence of {@code key} from this Timeslots collection, if it is present.
+     */
     public void removeTimeslot(Timeslot key) {
-        times.remove(key);
+        if (tree.remove(key)) {
+            times.remove(indexOf(key));
+            version++;
+            changeListener.timeslotRemoved(key);
+        }
+    }
+
+    /**
+     * Adds a recurring timeslot. It must not already be present.
+     */
+    public void addRecurringTimeslot(RecurringTimeslot r) {
+        requireNonNull(r);
+        recurringTimeslots.add(r);
+        version++;
+        changeListener.recurringTimeslotAdded(r);
     }
 
     /**
-     * Clears all timeslots in this collection while preserving the same ObservableList instance.
+     * Returns true if the given recurring timeslot is present.
+     */
+    public boolean hasRecurringTimeslot(RecurringTimeslot r) {
+        requireNonNull(r);
+        return recurringTimeslots.contains(r);
+    }
+
+    /**
+     * Removes {@code key} from the recurring timeslots, if it is present.
+     */
+    public void removeRecurringTimeslot(RecurringTimeslot key) {
+        if (recurringTimeslots.remove(key)) {
+            version++;
+            changeListener.recurringTimeslotRemoved(key);
+        }
+    }
+
+    /**
+     * Clears all timeslots and recurring timeslots in this collection while preserving the same ObservableList
+     * instance.
      */
     public void clear() {
+        tree.clear();
         times.clear();
+        recurringTimeslots.clear();
+        version++;
+        changeListener.timeslotsReset(times);
+        changeListener.recurringTimeslotsReset(getRecurringTimeslotList());
+    }
+
+    /**
+     * Sets the listener that is told about every change made to these timeslots from now on.
+     */
+    public void setChangeListener(DataChangeListener changeListener) {
+        requireNonNull(changeListener);
+        this.changeListener = changeListener;
     }
 
     //// util methods
 
+    /**
+     * Merges the timeslots in {@code sorted}, which are ordered by start time, into timeslots that do not overlap
+     * or touch.
+     */
+    private static List<Timeslot> mergeSorted(List<Timeslot> sorted) {
+        List<Timeslot> merged = new ArrayList<>();
+        for (Timeslot current : sorted) {
+            int lastIndex = merged.size() - 1;
+            if (lastIndex >= 0 && !current.getStart().isAfter(merged.get(lastIndex).getEnd())) {
+                Timeslot last = merged.get(lastIndex);
+                if (current.getEnd().isAfter(last.getEnd())) {
+                    merged.set(lastIndex, new Timeslot(last.getStart(), current.getEnd()));
+                }
+            } else {
+                merged.add(current);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Returns the occurrences of the recurring timeslots that overlap {@code window}, ordered by
+     * {@link Timeslot#START_TIME_ORDER}.
+     */
+    private List<Timeslot> getRecurringOccurrences(Timeslot window) {
+        List<Timeslot> occurrences = new ArrayList<>();
+        for (RecurringTimeslot r : recurringTimeslots) {
+            occurrences.addAll(r.getOccurrences(window));
+        }
+        occurrences.sort(Timeslot.START_TIME_ORDER);
+        return occurrences;
+    }
+
+    /**
+     * Returns the position of {@code t} in the ordered list of timeslots, or the position it would be added at
+     * if it is not in the list.
+     */
+    private int indexOf(Timeslot t) {
+        int index = Collections.binarySearch(times, t, Timeslot.START_TIME_ORDER);
+        return index >= 0 ? index : -index - 1;
+    }
+
     @Override
     public ObservableList<Timeslot> getTimeslotList() {
         return FXCollections.unmodifiableObservableList(times);
     }
 
+    @Override
+    public ObservableList<RecurringTimeslot> getRecurringTimeslotList() {
+        return FXCollections.unmodifiableObservableList(recurringTimeslots);
+    }
+
+    @Override
+    public List<Timeslot> getOverlappingTimeslots(Timeslot range) {
+        requireNonNull(range);
+        return tree.overlapping(range);
+    }
+
+    @Override
+    public List<Timeslot> getBlockedTimeslots(Timeslot window) {
+        requireNonNull(window);
+        List<Timeslot> blocked = tree.overlapping(window);
+        if (recurringTimeslots.isEmpty() && isMergingOverlaps) {
+            return blocked;
+        }
+        blocked.addAll(getRecurringOccurrences(window));
+        blocked.sort(Timeslot.START_TIME_ORDER);
+        return mergeSorted(blocked);
+    }
+
+    @Override
+    public List<Timeslot> getFreeTimeslots(Timeslot window, Duration minDuration, int limit) {
+        requireAllNonNull(window, minDuration);
+        FreeTimeSweep sweep = new FreeTimeSweep(window.getStart(), minDuration, limit);
+        if (!sweep.isDone()) {
+            // interleave the stored timeslots with the occurrences, both of which come in start order
+            List<Timeslot> occurrences = getRecurringOccurrences(window);
+            int[] next = {0};
+            tree.forEachOverlapping(window, blocked -> {
+                while (next[0] < occurrences.size()
+                        && !occurrences.get(next[0]).getStart().isAfter(blocked.getStart())) {
+                    if (!sweep.visit(occurrences.get(next[0]++))) {
+                        return false;
+                    }
+                }
+                return sweep.visit(blocked);
+            });
+            while (!sweep.isDone() && next[0] < occurrences.size()) {
+                sweep.visit(occurrences.get(next[0]++));
+            }
+        }
+        return sweep.finish(window.getEnd());
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
-        return "Timeslots" + times.toString();
+        return "Timeslots" + times.toString() + recurringTimeslots.toString();
     }
 
     @Override
@@ -101,11 +345,60 @@ public class Timeslots implements ReadOnlyTimeslots {
             return false;
         }
         Timeslots otherTimeslots = (Timeslots) other;
-        return times.equals(otherTimeslots.times);
+        return times.equals(otherTimeslots.times)
+                && recurringTimeslots.equals(otherTimeslots.recurringTimeslots);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(times);
+        return Objects.hash(times, recurringTimeslots);
+    }
+
+    /**
+     * Collects the gaps between blocked timeslots that are visited in start order.
+     * Everything before {@code freeFrom} is known to be blocked.
+     */
+    private static class FreeTimeSweep {
+        private final List<Timeslot> free = new ArrayList<>();
+        private final Duration minDuration;
+        private final int limit;
+        private LocalDateTime freeFrom;
+
+        FreeTimeSweep(LocalDateTime freeFrom, Duration minDuration, int limit) {
+            this.freeFrom = freeFrom;
+            this.minDuration = minDuration;
+            this.limit = limit;
+        }
+
+        boolean isDone() {
+            return free.size() >= limit;
+        }
+
+        /**
+         * Records the gap before {@code blocked}, and returns false once enough gaps have been found.
+         */
+        boolean visit(Timeslot blocked) {
+            addIfLongEnough(blocked.getStart());
+            if (blocked.getEnd().isAfter(freeFrom)) {
+                freeFrom = blocked.getEnd();
+            }
+            return !isDone();
+        }
+
+        /**
+         * Records the gap before {@code windowEnd}, and returns the gaps found.
+         */
+        List<Timeslot> finish(LocalDateTime windowEnd) {
+            if (!isDone()) {
+                addIfLongEnough(windowEnd);
+            }
+            return free;
+        }
+
+        private void addIfLongEnough(LocalDateTime end) {
+            if (freeFrom.isBefore(end) && Duration.between(freeFrom, end).compareTo(minDuration) >= 0) {
+                free.add(new Timeslot(freeFrom, end));
+            }
+        }
     }
 }
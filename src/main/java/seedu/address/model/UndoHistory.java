@@ -0,0 +1,205 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * A bounded multi-level undo/redo history of the changes made to an {@code AddressBook} and its {@code Timeslots}.
+ *
+ * Instead of copying the whole address book before every command, each command opens an entry with
+ * {@link #beginEntry()} and every mutation made until {@link #endEntry()} records how to revert and reapply itself.
+ * Unchanged persons and timeslots are shared with the live data, so an entry only costs as much as it changed.
+ *
+ * The history keeps at most {@code maxDepth} undoable entries and evicts the oldest entries once the number of
+ * references held by all entries exceeds {@code memoryBudget}. The most recent entry is always kept.
+ */
+public class UndoHistory {
+
+    public static final int DEFAULT_MAX_DEPTH = 50;
+    public static final int DEFAULT_MEMORY_BUDGET = 200_000;
+
+    private final Deque<Entry> undoStack = new ArrayDeque<>();
+    private final Deque<Entry> redoStack = new ArrayDeque<>();
+    private final int memoryBudget;
+    private int maxDepth;
+    private Entry openEntry;
+    private long totalWeight;
+    private boolean isReplaying;
+
+    /**
+     * Creates an empty history with the default depth and memory budget.
+     */
+    public UndoHistory() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_MEMORY_BUDGET);
+    }
+
+    /**
+     * Creates an empty history that keeps at most {@code maxDepth} entries holding at most {@code memoryBudget}
+     * references between them.
+     */
+    public UndoHistory(int maxDepth, int memoryBudget) {
+        if (maxDepth < 1 || memoryBudget < 1) {
+            throw new IllegalArgumentException("Undo history limits must be positive");
+        }
+        this.maxDepth = maxDepth;
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Changes the maximum number of undoable entries, evicting the oldest entries if there are now too many.
+     */
+    public void setMaxDepth(int maxDepth) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Undo history limits must be positive");
+        }
+        this.maxDepth = maxDepth;
+        evict();
+    }
+
+    /**
+     * Opens a new entry that the following mutations are recorded into and discards everything that could be redone.
+     * The entry only joins the history once a mutation is recorded into it, so commands that change nothing leave
+     * no trace.
+     */
+    public void beginEntry() {
+        clearRedo();
+        openEntry = new Entry();
+    }
+
+    /**
+     * Closes the open entry, so that later mutations are not recorded into it.
+     */
+    public void endEntry() {
+        openEntry = null;
+    }
+
+    /**
+     * Records a mutation into the open entry.
+     * Mutations made while undoing or redoing are not recorded. A mutation made while no entry is open cannot be
+     * undone, and it discards the whole history, as the recorded changes would no longer apply to the data.
+     *
+     * @param revert undoes the mutation.
+     * @param reapply redoes the mutation.
+     * @param weight the number of persons or timeslots that the two actions hold on to.
+     */
+    public void record(BiConsumer<AddressBook, Timeslots> revert, BiConsumer<AddressBook, Timeslots> reapply,
+            int weight) {
+        requireNonNull(revert);
+        requireNonNull(reapply);
+        if (isReplaying) {
+            return;
+        }
+        clearRedo();
+        if (openEntry == null) {
+            clearUndo();
+            return;
+        }
+        if (openEntry.changes.isEmpty()) {
+            undoStack.push(openEntry);
+        }
+        openEntry.changes.add(new Change(revert, reapply, weight));
+        totalWeight += weight;
+        evict();
+    }
+
+    public boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Reverts the changes of the most recent entry on {@code addressBook} and {@code timeslots}, latest first.
+     * This closes the open entry.
+     */
+    public void undo(AddressBook addressBook, Timeslots timeslots) {
+        if (!canUndo()) {
+            throw new IllegalStateException("No previous state to undo!");
+        }
+        endEntry();
+        Entry entry = undoStack.pop();
+        replay(() -> {
+            for (int i = entry.changes.size() - 1; i >= 0; i--) {
+                entry.changes.get(i).revert.accept(addressBook, timeslots);
+            }
+        });
+        redoStack.push(entry);
+    }
+
+    /**
+     * Reapplies the changes of the most recently undone entry on {@code addressBook} and {@code timeslots}.
+     * This closes the open entry.
+     */
+    public void redo(AddressBook addressBook, Timeslots timeslots) {
+        if (!canRedo()) {
+            throw new IllegalStateException("No undone state to redo!");
+        }
+        endEntry();
+        Entry entry = redoStack.pop();
+        replay(() -> entry.changes.forEach(change -> change.reapply.accept(addressBook, timeslots)));
+        undoStack.push(entry);
+    }
+
+    private void replay(Runnable action) {
+        isReplaying = true;
+        try {
+            action.run();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    private void clearRedo() {
+        redoStack.forEach(entry -> totalWeight -= entry.weight());
+        redoStack.clear();
+    }
+
+    private void clearUndo() {
+        undoStack.forEach(entry -> totalWeight -= entry.weight());
+        undoStack.clear();
+    }
+
+    private void evict() {
+        while (undoStack.size() > 1 && (undoStack.size() > maxDepth || totalWeight > memoryBudget)) {
+            totalWeight -= undoStack.removeLast().weight();
+        }
+    }
+
+    /**
+     * The changes made by a single command.
+     */
+    private static class Entry {
+        private final List<Change> changes = new ArrayList<>();
+
+        private long weight() {
+            long weight = 0;
+            for (Change change : changes) {
+                weight += change.weight;
+            }
+            return weight;
+        }
+    }
+
+    /**
+     * A single recorded mutation.
+     */
+    private static class Change {
+        private final BiConsumer<AddressBook, Timeslots> revert;
+        private final BiConsumer<AddressBook, Timeslots> reapply;
+        private final int weight;
+
+        private Change(BiConsumer<AddressBook, Timeslots> revert, BiConsumer<AddressBook, Timeslots> reapply,
+                int weight) {
+            this.revert = revert;
+            this.reapply = reapply;
+            this.weight = weight;
+        }
+    }
+}
@@ -16,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path timeslotsFilePath = Paths.get("data" , "timeslots.json");
+    private int undoLimit = UndoHistory.DEFAULT_MAX_DEPTH;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +39,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setTimeslotsFilePath(newUserPrefs.getTimeslotsFilePath());
+        setUndoLimit(newUserPrefs.getUndoLimit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -67,6 +69,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.timeslotsFilePath = timeslotsFilePath;
     }
 
+    public int getUndoLimit() {
+        return undoLimit;
+    }
+
+    public void setUndoLimit(int undoLimit) {
+        if (undoLimit < 1) {
+            throw new IllegalArgumentException("Undo limit must be positive");
+        }
+        this.undoLimit = undoLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -80,12 +93,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoLimit == otherUserPrefs.undoLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoLimit);
     }
 
     @Override
@@ -93,6 +107,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo limit : " + undoLimit);
         return sb.toString();
     }
 
@@ -0,0 +1,41 @@
+package seedu.address.model.person;
+
+import java.util.Optional;
+
+/**
+ * The exams a student is graded on, in the order they are held.
+ */
+public enum ExamKind {
+    PE1("pe1", Examination.MAX_PE1_SCORE),
+    MIDTERM("midterm", Examination.MAX_MIDTERM_SCORE),
+    PE2("pe2", Examination.MAX_PE2_SCORE),
+    FINAL("final", Examination.MAX_FINAL_SCORE);
+
+    private final String examName;
+    private final double maxScore;
+
+    ExamKind(String examName, double maxScore) {
+        this.examName = examName;
+        this.maxScore = maxScore;
+    }
+
+    public String getExamName() {
+        return examName;
+    }
+
+    public double getMaxScore() {
+        return maxScore;
+    }
+
+    /**
+     * Returns the exam called {@code examName}, or an empty {@code Optional} if there is no such exam.
+     */
+    public static Optional<ExamKind> fromExamName(String examName) {
+        for (ExamKind examKind : values()) {
+            if (examKind.examName.equals(examName)) {
+                return Optional.of(examKind);
+            }
+        }
+        return Optional.empty();
+    }
+}
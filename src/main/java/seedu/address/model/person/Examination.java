@@ -74,13 +74,9 @@ public class Examination implements Gradeable {
                 && this.score.equals(other.score);
     }
     public static double getMaxScoreFor(String name) {
-        return switch (name.toLowerCase()) {
-        case "pe1" -> MAX_PE1_SCORE;
-        case "midterm" -> MAX_MIDTERM_SCORE;
-        case "pe2" -> MAX_PE2_SCORE;
-        case "final" -> MAX_FINAL_SCORE;
-        default -> throw new IllegalArgumentException("Unknown exam: " + name);
-        };
+        return ExamKind.fromExamName(name.toLowerCase())
+                .map(ExamKind::getMaxScore)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown exam: " + name));
     }
     public String getName() {
         return name;
@@ -4,14 +4,15 @@ import static seedu.address.model.person.Status.NOT_DONE;
 
 import java.util.ArrayList;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
 
 /**
- * Represents a Person's address in the address book.
+ * Represents the statuses of a Person's exercises.
+ * The statuses are packed into a single {@code long}, {@value #BITS_PER_STATUS} bits per exercise, and the progress
+ * is recomputed only when an exercise is marked.
  */
 public class ExerciseTracker implements Comparable<ExerciseTracker> {
 
@@ -21,19 +22,21 @@ public class ExerciseTracker implements Comparable<ExerciseTracker> {
     public static final double WEIGHT_OVERDUE = -0.5;
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
     private static final String INDEX_OUT_OF_FOUNDS_FORMAT = "Index should be between 0 and %s";
+    private static final int BITS_PER_STATUS = 2;
+    private static final long STATUS_MASK = (1L << BITS_PER_STATUS) - 1;
+    private static final Status[] STATUSES = Status.values();
+    private static final long ALL_NOT_DONE = fill(NOT_DONE);
 
-
-    private ArrayList<Exercise> exercises = new ArrayList<>();
+    private long packedStatuses;
+    private double progress;
 
     /**
      * Initialises statuses to all be not done
      */
     public ExerciseTracker() {
-        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
-            exercises.add(new Exercise(i, NOT_DONE));
-        }
-        assert exercises.size() == NUMBER_OF_EXERCISES : "Exercise tracker must have exactly 10 exercises";
+        this(ALL_NOT_DONE);
     }
+
     /**
      * Initializes exercises using a list of statuses.
      * Each index corresponds to an exercise number.
@@ -43,20 +46,29 @@ public class ExerciseTracker implements Comparable<ExerciseTracker> {
         if (statuses.size() > NUMBER_OF_EXERCISES) {
             throw new IllegalArgumentException("Too many statuses! Expected at most " + NUMBER_OF_EXERCISES);
         }
-        this.exercises = new ArrayList<>();
+        long packed = ALL_NOT_DONE;
         for (int i = 0; i < statuses.size(); i++) {
-            exercises.add(new Exercise(i, statuses.get(i)));
-        }
-        for (int i = statuses.size(); i < NUMBER_OF_EXERCISES; i++) {
-            exercises.add(new Exercise(i, NOT_DONE));
+            packed = withStatus(packed, i, statuses.get(i));
         }
+        this.packedStatuses = packed;
+        this.progress = computeProgress(packed);
+    }
+
+    private ExerciseTracker(long packedStatuses) {
+        this.packedStatuses = packedStatuses;
+        this.progress = computeProgress(packedStatuses);
     }
 
     @Override
     public String toString() {
-        return exercises.stream()
-                .map(Exercise::toString)
-                .collect(Collectors.joining(" "));
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append("ex ").append(i).append(": ").append(statusAt(i));
+        }
+        return builder.toString();
     }
 
     @Override
@@ -68,19 +80,39 @@ public class ExerciseTracker implements Comparable<ExerciseTracker> {
             return false;
         }
         ExerciseTracker otherTracker = (ExerciseTracker) other;
-        return exercises.equals(otherTracker.exercises);
+        return packedStatuses == otherTracker.packedStatuses;
     }
 
     @Override
     public int hashCode() {
-        return exercises.hashCode();
+        return Long.hashCode(packedStatuses);
     }
 
+    /**
+     * Returns a new list of the statuses of all exercises, in order.
+     * Prefer {@link #statusAt(int)} and {@link #countOf(Status)}, which do not allocate.
+     */
     public ArrayList<Status> getStatuses() {
-        assert exercises != null && !exercises.isEmpty() : "Exercises must be initialized";
-        return exercises.stream()
-                .map(Exercise::getStatus)
-                .collect(Collectors.toCollection(ArrayList::new));
+        ArrayList<Status> statuses = new ArrayList<>(NUMBER_OF_EXERCISES);
+        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
+            statuses.add(statusAt(i));
+        }
+        return statuses;
+    }
+
+    /**
+     * Returns the status of the exercise at the zero-based {@code index}.
+     */
+    public Status statusAt(int index) {
+        checkIndex(index);
+        return STATUSES[(int) ((packedStatuses >>> (index * BITS_PER_STATUS)) & STATUS_MASK)];
+    }
+
+    /**
+     * Returns the number of exercises with the given {@code status}.
+     */
+    public int countOf(Status status) {
+        return countOf(packedStatuses, status);
     }
 
     /**
@@ -90,18 +122,14 @@ public class ExerciseTracker implements Comparable<ExerciseTracker> {
      */
     public void markExercise(Index index, Status status) {
         logger.info(String.format("Marking ex %d with %s", index.getOneBased(), status));
-        if (index.getZeroBased() < 0 || index.getZeroBased() >= NUMBER_OF_EXERCISES) {
-            throw new IndexOutOfBoundsException(
-                    String.format(INDEX_OUT_OF_FOUNDS_FORMAT,
-                            NUMBER_OF_EXERCISES - 1)
-            );
-        }
-        if (exercises.get(index.getZeroBased()).getStatus().equals(status)) {
+        checkIndex(index.getZeroBased());
+        if (statusAt(index.getZeroBased()).equals(status)) {
             throw new IllegalStateException(String.format("Ex %d already marked with %s",
                     index.getZeroBased(),
                     status));
         }
-        exercises.get(index.getZeroBased()).markStatus(status);
+        packedStatuses = withStatus(packedStatuses, index.getZeroBased(), status);
+        progress = computeProgress(packedStatuses);
     }
 
     /**
@@ -109,29 +137,12 @@ public class ExerciseTracker implements Comparable<ExerciseTracker> {
      * @return the progress between -50.0 and 100.0.
      */
     public double calculateProgress() {
-        double count = 0;
-        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
-            Status status = exercises.get(i).getStatus();
-            switch (status) {
-            case DONE:
-                count += WEIGHT_DONE;
-                break;
-            case OVERDUE:
-                count += WEIGHT_OVERDUE;
-                break;
-            case NOT_DONE:
-                break;
-
-            default:
-                throw new IllegalStateException("Unexpected status: " + status);
-            }
-        }
-        return count / NUMBER_OF_EXERCISES * 100.0;
+        return progress;
     }
 
     @Override
     public int compareTo(ExerciseTracker other) {
-        return Double.compare(this.calculateProgress(), other.calculateProgress());
+        return Double.compare(this.progress, other.progress);
     }
 
     /**
@@ -179,8 +190,40 @@ public class ExerciseTracker implements Comparable<ExerciseTracker> {
      * @return a new ExerciseTracker with copied data
      */
     public ExerciseTracker copy() {
-        ArrayList<Status> copiedStatuses = new ArrayList<>(this.getStatuses());
-        return new ExerciseTracker(copiedStatuses);
+        return new ExerciseTracker(packedStatuses);
+    }
+
+    private static void checkIndex(int index) {
+        if (index < 0 || index >= NUMBER_OF_EXERCISES) {
+            throw new IndexOutOfBoundsException(String.format(INDEX_OUT_OF_FOUNDS_FORMAT, NUMBER_OF_EXERCISES - 1));
+        }
+    }
+
+    private static long withStatus(long packed, int index, Status status) {
+        int shift = index * BITS_PER_STATUS;
+        return (packed & ~(STATUS_MASK << shift)) | ((long) status.ordinal() << shift);
+    }
+
+    private static long fill(Status status) {
+        long packed = 0;
+        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
+            packed = withStatus(packed, i, status);
+        }
+        return packed;
     }
-}
 
+    private static int countOf(long packed, Status status) {
+        int count = 0;
+        for (int i = 0; i < NUMBER_OF_EXERCISES; i++) {
+            if (((packed >>> (i * BITS_PER_STATUS)) & STATUS_MASK) == status.ordinal()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static double computeProgress(long packed) {
+        double count = countOf(packed, Status.DONE) * WEIGHT_DONE + countOf(packed, Status.OVERDUE) * WEIGHT_OVERDUE;
+        return count / NUMBER_OF_EXERCISES * 100.0;
+    }
+}
@@ -3,9 +3,7 @@ package seedu.address.model.person;
 import static seedu.address.logic.parser.GradeCommandParser.MESSAGE_INVALID_EXAM_NAME_FORMAT;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
@@ -13,30 +11,44 @@ import seedu.address.model.person.exceptions.InvalidExamNameException;
 import seedu.address.model.person.exceptions.InvalidScoreException;
 
 /**
- * Wraps a HashMap with String keys and Gradeable values.
+ * Holds the percentage score of a student in each {@link ExamKind}, indexed by its ordinal.
+ * An exam that has not been graded has a score of NaN.
  */
 public class GradeMap {
-    public static final String[] VALID_EXAM_NAMES = {"pe1", "midterm", "pe2", "final"};
+    public static final String[] VALID_EXAM_NAMES = Arrays.stream(ExamKind.values())
+            .map(ExamKind::getExamName)
+            .toArray(String[]::new);
+    private static final ExamKind[] EXAM_KINDS = ExamKind.values();
+    private static final String INVALID_SCORE_FORMAT =
+            "%.1f is invalid as a score. Input a number from 0 to %.1f";
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
-    private final HashMap<String, Gradeable> gradeableHashMap;
+    private final double[] scores;
+
     /**
-     * Fills the hashmap with the keys
+     * Creates a GradeMap in which no exam has been graded.
      */
     public GradeMap() {
-        gradeableHashMap = new HashMap<>();
-        for (String assessment : VALID_EXAM_NAMES) {
-            gradeableHashMap.put(
-                    assessment,
-                    new Examination(assessment)
-            );
-        }
+        scores = new double[EXAM_KINDS.length];
+        Arrays.fill(scores, Double.NaN);
+    }
+
+    private GradeMap(double[] scores) {
+        this.scores = scores;
     }
+
     @Override
     public String toString() {
-        return Arrays.stream(VALID_EXAM_NAMES)
-                .map(a -> gradeableHashMap.get(a).toString())
-                .collect(Collectors.joining(", "));
+        StringBuilder result = new StringBuilder();
+        for (ExamKind examKind : EXAM_KINDS) {
+            if (result.length() > 0) {
+                result.append(", ");
+            }
+            result.append(examKind.getExamName()).append(": ")
+                    .append(isGraded(examKind) ? Double.toString(getScore(examKind)) : "NA");
+        }
+        return result.toString();
     }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -46,15 +58,46 @@ public class GradeMap {
             return false; // different type
         }
         GradeMap other = (GradeMap) obj;
-        return this.gradeableHashMap.equals(other.gradeableHashMap);
+        return Arrays.equals(this.scores, other.scores);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(scores);
+    }
+
+    /**
+     * Returns the percentage score of the exam, or NaN if it has not been graded.
+     */
+    public double getScore(ExamKind examKind) {
+        return scores[examKind.ordinal()];
     }
 
-    public HashMap<String, Gradeable> getGradeableHashMap() {
-        return gradeableHashMap;
+    public boolean isGraded(ExamKind examKind) {
+        return !Double.isNaN(scores[examKind.ordinal()]);
     }
 
-    public void putExam(String key, Examination exam) {
-        gradeableHashMap.put(key, exam);
+    /**
+     * Sets the percentage score of an exam.
+     * @throws InvalidScoreException if the score is not between 0 and 100
+     */
+    public void setPercentageScore(ExamKind examKind, double score) throws InvalidScoreException {
+        if (!(score >= 0 && score <= 100.0)) {
+            throw new InvalidScoreException(String.format(INVALID_SCORE_FORMAT, score, 100.0), 100.0);
+        }
+        scores[examKind.ordinal()] = score;
+    }
+
+    /**
+     * Grades an exam with a score out of the maximum score of the exam.
+     * @throws InvalidScoreException if the score is not between 0 and the maximum score of the exam
+     */
+    public void gradeExam(ExamKind examKind, double score) throws InvalidScoreException {
+        double maxScore = examKind.getMaxScore();
+        if (!(score >= 0 && score <= maxScore)) {
+            throw new InvalidScoreException(String.format(INVALID_SCORE_FORMAT, score, maxScore), maxScore);
+        }
+        scores[examKind.ordinal()] = score / maxScore * 100.0;
     }
 
     /**
@@ -65,16 +108,13 @@ public class GradeMap {
      */
     public void gradeExam(String name, double score) throws InvalidExamNameException {
         logger.info(String.format("Grading %s with %.2f", name, score));
-        Gradeable exam = gradeableHashMap.get(name);
-        if (exam == null) {
-            throw new InvalidExamNameException(
-                    String.format(MESSAGE_INVALID_EXAM_NAME_FORMAT,
-                        name,
-                        Arrays.toString(VALID_EXAM_NAMES)
-                    )
-            );
-        }
-        exam.setScore(score);
+        ExamKind examKind = ExamKind.fromExamName(name).orElseThrow(() -> new InvalidExamNameException(
+                String.format(MESSAGE_INVALID_EXAM_NAME_FORMAT,
+                    name,
+                    Arrays.toString(VALID_EXAM_NAMES)
+                )
+        ));
+        gradeExam(examKind, score);
     }
 
     /**
@@ -82,23 +122,6 @@ public class GradeMap {
      * @return a new GradeMap with copied data
      */
     public GradeMap copy() {
-        GradeMap newGradeMap = new GradeMap();
-
-        for (String examName : VALID_EXAM_NAMES) {
-            Gradeable original = this.gradeableHashMap.get(examName);
-            Gradeable copied = newGradeMap.gradeableHashMap.get(examName);
-            if (original instanceof Examination) {
-                Examination originalExam = (Examination) original;
-                if (originalExam.getScore() != -1.0) {
-                    try {
-                        copied.setPercentageScore(originalExam.getScore());
-                    } catch (InvalidScoreException e) {
-                        throw new RuntimeException("Unexpected error copying valid score", e);
-                    }
-                }
-            }
-        }
-        return newGradeMap;
+        return new GradeMap(scores.clone());
     }
 }
-
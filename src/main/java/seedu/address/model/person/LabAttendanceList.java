@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import seedu.address.model.Week;
+
 /**
  * Represents a collection of lab attendance statuses.
  */
@@ -23,5 +25,24 @@ public interface LabAttendanceList extends Comparable<LabAttendanceList> {
      */
     public double calculateLabAttendance();
 
-    LabAttendance[] getLabs();
+    /**
+     * Returns whether the specified lab session was attended.
+     * @param index the zero-based index of the lab session.
+     */
+    public boolean isAttended(int index);
+
+    /**
+     * Returns the status of the specified lab session in {@code currentWeek}: "Y" if attended,
+     * "A" if absent past its week, and "N" otherwise.
+     * @param index the zero-based index of the lab session.
+     * @param currentWeek the current week of the address book the list belongs to.
+     */
+    public String statusAt(int index, Week currentWeek);
+
+    /**
+     * Returns the attended lab sessions as a bitmask, bit {@code i} being set if lab {@code i + 1} was attended.
+     */
+    public int getAttendedMask();
+
+    LabAttendance[] getLabs(Week currentWeek);
 }
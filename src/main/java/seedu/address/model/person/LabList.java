@@ -1,62 +1,105 @@
 package seedu.address.model.person;
 
+import seedu.address.model.Week;
+
 /**
  * Represents a collection of lab attendance records for a student across all lab sessions.
+ * Attendance is kept as a bitmask, bit {@code i} being set if lab {@code i + 1} was attended. Whether a lab that
+ * was not attended counts as absent depends on the current week, which is passed in whenever it is asked for.
  */
 public class LabList implements LabAttendanceList {
     public static final int NUMBER_OF_LABS = 10;
     public static final String MESSAGE_CONSTRAINTS =
             "Lab attendance list should be in the format 'L1: Y/N ... L10: Y/N'";
-    private static int currentWeek = 0;
-    private final LabAttendance[] labs;
+    public static final String STATUS_ATTENDED = "Y";
+    public static final String STATUS_ABSENT = "A";
+    public static final String STATUS_NOT_ATTENDED = "N";
+    private static final String INDEX_OUT_OF_BOUNDS_MESSAGE =
+            "Index should be between 0 and " + (NUMBER_OF_LABS - 1);
+    private static final int ALL_LABS_MASK = (1 << NUMBER_OF_LABS) - 1;
+    private short attendedMask;
+    private double attendanceRate;
 
     /**
      * Constructs a {@code LabList} with all labs initialized to not attended.
      */
     public LabList() {
-        this(createDefaultLabs(currentWeek));
+        this((short) 0);
     }
 
     /**
      * Constructs a {@code LabAttendanceList} with the specified lab attendance records.
      *
-     * @param labs an array of {@code Lab} objects representing the lab attendance records
+     * @param labs an array of {@code LabAttendance} objects representing the lab attendance records
      */
     public LabList(LabAttendance[] labs) {
-        assert labs.length == NUMBER_OF_LABS : "Wrong number of labs";
-        this.labs = labs;
+        this(toMask(labs));
     }
 
-    private static LabAttendance[] createDefaultLabs(int currentWeek) {
-        LabAttendance[] labAttendanceList = new LabAttendance[NUMBER_OF_LABS];
-        for (int i = 0; i < NUMBER_OF_LABS; i++) {
-            labAttendanceList[i] = new Lab(i + 1, currentWeek);
-        }
-        return labAttendanceList;
+    private LabList(short attendedMask) {
+        this.attendedMask = attendedMask;
+        this.attendanceRate = computeAttendanceRate(attendedMask);
     }
 
-    public static int getCurrentWeek() {
-        return currentWeek;
+    /**
+     * Returns a {@code LabList} whose attended labs are the set bits of {@code attendedMask}, bit {@code i} standing
+     * for lab {@code i + 1}.
+     *
+     * @throws IllegalArgumentException if a bit beyond the last lab is set.
+     */
+    public static LabList fromAttendedMask(int attendedMask) {
+        if ((attendedMask & ~ALL_LABS_MASK) != 0) {
+            throw new IllegalArgumentException("Lab attendance mask has bits beyond lab " + NUMBER_OF_LABS);
+        }
+        return new LabList((short) attendedMask);
     }
 
-    public static void setCurrentWeek(int week) {
-        currentWeek = week;
+    private static short toMask(LabAttendance[] labs) {
+        assert labs.length == NUMBER_OF_LABS : "Wrong number of labs";
+        int mask = 0;
+        for (int i = 0; i < NUMBER_OF_LABS; i++) {
+            if (labs[i].isAttended()) {
+                mask |= 1 << i;
+            }
+        }
+        return (short) mask;
     }
 
     @Override
     public void markLabAsAttended(int index) {
-        if (index < 0 || index >= NUMBER_OF_LABS) {
-            throw new IndexOutOfBoundsException("Index should be between 0 and " + (NUMBER_OF_LABS - 1));
+        checkIndex(index);
+        if (isAttended(index)) {
+            throw new IllegalStateException("Lab Attendance has already been marked as attended");
         }
-        labs[index].markAsAttended();
+        setAttendedMask((short) (attendedMask | (1 << index)));
     }
 
     @Override
     public void markLabAsAbsent(int index) {
-        if (index < 0 || index >= NUMBER_OF_LABS) {
-            throw new IndexOutOfBoundsException("Index should be between 0 and " + (NUMBER_OF_LABS - 1));
+        checkIndex(index);
+        if (!isAttended(index)) {
+            throw new IllegalStateException("Lab Attendance has already been marked as not attended");
         }
-        labs[index].markAsAbsent();
+        setAttendedMask((short) (attendedMask & ~(1 << index)));
+    }
+
+    @Override
+    public int getAttendedMask() {
+        return attendedMask;
+    }
+
+    @Override
+    public boolean isAttended(int index) {
+        checkIndex(index);
+        return (attendedMask & (1 << index)) != 0;
+    }
+
+    @Override
+    public String statusAt(int index, Week currentWeek) {
+        if (isAttended(index)) {
+            return STATUS_ATTENDED;
+        }
+        return index + 1 + Lab.LAB_WEEK_DIFFERENCE < currentWeek.getWeekNumber() ? STATUS_ABSENT : STATUS_NOT_ATTENDED;
     }
 
     @Override
@@ -70,12 +113,12 @@ public class LabList implements LabAttendanceList {
         }
 
         LabList otherLabList = (LabList) other;
-        for (int i = 0; i < NUMBER_OF_LABS; i++) {
-            if (this.labs[i].isAttended() != otherLabList.labs[i].isAttended()) {
-                return false;
-            }
-        }
-        return true;
+        return attendedMask == otherLabList.attendedMask;
+    }
+
+    @Override
+    public int hashCode() {
+        return attendedMask;
     }
 
     /**
@@ -84,23 +127,15 @@ public class LabList implements LabAttendanceList {
      * @return a new LabList with copied attendance records
      */
     public LabList copy() {
-        LabAttendance[] copiedLabs = new LabAttendance[NUMBER_OF_LABS];
-        for (int i = 0; i < NUMBER_OF_LABS; i++) {
-            Lab originalLab = (Lab) this.labs[i];
-            Lab newLab = new Lab(i + 1, currentWeek);
-            if (originalLab.isAttended()) {
-                newLab.markAsAttended();
-            }
-            copiedLabs[i] = newLab;
-        }
-        return new LabList(copiedLabs);
+        return new LabList(attendedMask);
     }
 
     @Override
     public String toString() {
         StringBuilder result = new StringBuilder();
         for (int i = 0; i < NUMBER_OF_LABS; i++) {
-            result.append(labs[i].toString()).append(" ");
+            result.append('L').append(i + 1).append(": ")
+                    .append(isAttended(i) ? STATUS_ATTENDED : STATUS_NOT_ATTENDED).append(" ");
         }
         return result.toString();
     }
@@ -136,23 +171,45 @@ public class LabList implements LabAttendanceList {
         return true;
     }
 
-    public LabAttendance[] getLabs() {
+    /**
+     * Returns the labs of this list in {@code currentWeek}. The labs are created on each call, so prefer
+     * {@link #isAttended(int)} and {@link #statusAt(int, Week)}; marking a returned lab does not change this list.
+     */
+    @Override
+    public LabAttendance[] getLabs(Week currentWeek) {
+        LabAttendance[] labs = new LabAttendance[NUMBER_OF_LABS];
+        for (int i = 0; i < NUMBER_OF_LABS; i++) {
+            labs[i] = new Lab(i + 1, currentWeek.getWeekNumber());
+            if (isAttended(i)) {
+                labs[i].markAsAttended();
+            }
+        }
         return labs;
     }
 
     @Override
     public double calculateLabAttendance() {
-        double count = 0;
-        for (LabAttendance lab: labs) {
-            if (lab.isAttended()) {
-                count++;
-            }
-        }
-        return count / NUMBER_OF_LABS * 100;
+        return attendanceRate;
     }
 
     @Override
     public int compareTo(LabAttendanceList other) {
         return Double.compare(this.calculateLabAttendance(), other.calculateLabAttendance());
     }
+
+    private void setAttendedMask(short attendedMask) {
+        this.attendedMask = attendedMask;
+        this.attendanceRate = computeAttendanceRate(attendedMask);
+    }
+
+    private static double computeAttendanceRate(short attendedMask) {
+        double count = Integer.bitCount(Short.toUnsignedInt(attendedMask));
+        return count / NUMBER_OF_LABS * 100;
+    }
+
+    private static void checkIndex(int index) {
+        if (index < 0 || index >= NUMBER_OF_LABS) {
+            throw new IndexOutOfBoundsException(INDEX_OUT_OF_BOUNDS_MESSAGE);
+        }
+    }
 }
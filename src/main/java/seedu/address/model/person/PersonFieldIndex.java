@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * A case-insensitive hash index from one field of a {@code Person} to the persons holding that value.
+ * Lookups by exact value take constant time instead of scanning the whole person list.
+ *
+ * Values are not required to be unique: data files written before uniqueness was enforced may contain clashes,
+ * so every holder of a value is kept and a lookup returns all of them.
+ */
+public class PersonFieldIndex {
+
+    private final Function<Person, String> keyExtractor;
+    private final HashMap<String, List<Person>> index = new HashMap<>();
+
+    /**
+     * Creates an empty index keyed on the value returned by {@code keyExtractor}.
+     */
+    public PersonFieldIndex(Function<Person, String> keyExtractor) {
+        requireNonNull(keyExtractor);
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Adds {@code person} under its indexed value.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        index.computeIfAbsent(keyOf(person), key -> new ArrayList<>(1)).add(person);
+    }
+
+    /**
+     * Removes {@code person} from under its indexed value, if present.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String key = keyOf(person);
+        List<Person> holders = index.get(key);
+        if (holders == null) {
+            return;
+        }
+        holders.remove(person);
+        if (holders.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        index.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose indexed value matches {@code value}, ignoring case, in the order they were indexed.
+     */
+    public List<Person> find(String value) {
+        requireNonNull(value);
+        List<Person> holders = index.get(normalize(value));
+        return holders == null ? List.of() : List.copyOf(holders);
+    }
+
+    private String keyOf(Person person) {
+        return normalize(keyExtractor.apply(person));
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Fields of a {@code Person} that can be searched by keyword with the find command.
+ */
+public enum SearchableField {
+    STUDENT_ID(person -> List.of(person.getStudentId().value)),
+    NAME(person -> List.of(person.getName().fullName)),
+    EMAIL(person -> List.of(person.getEmail().value)),
+    GITHUB_USERNAME(person -> List.of(person.getGithubUsername().value)),
+    PHONE(person -> List.of(person.getPhone().value)),
+    TAG(person -> person.getTags().stream().map(Tag::getTagName).collect(Collectors.toList()));
+
+    private final Function<Person, List<String>> valuesExtractor;
+
+    SearchableField(Function<Person, List<String>> valuesExtractor) {
+        this.valuesExtractor = valuesExtractor;
+    }
+
+    /**
+     * Returns the values of this field held by {@code person}.
+     * Every field holds exactly one value except {@code TAG}, which holds one per tag.
+     */
+    public List<String> valuesOf(Person person) {
+        return valuesExtractor.apply(person);
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A bitmap index over the exercise statuses and lab attendance of every person.
+ *
+ * Each person is given a stable slot number for as long as they are indexed, and there is one bitset per
+ * (exercise, {@code Status}) and per (lab, attended or not) pair with the bits of the matching slots set.
+ * Filters on several statuses can then be answered with a bitwise AND instead of testing every person.
+ * Nothing in the index depends on the current week, so it does not need rebuilding when the week changes.
+ */
+public class StatusBitmapIndex {
+
+    private static final int LAB_NOT_ATTENDED = 0;
+    private static final int LAB_ATTENDED = 1;
+
+    private final HashMap<StudentId, Integer> slots = new HashMap<>();
+    private final ArrayList<StudentId> slotOwners = new ArrayList<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet[][] exerciseBits = new BitSet[ExerciseTracker.NUMBER_OF_EXERCISES][Status.values().length];
+    private final BitSet[][] labBits = new BitSet[LabList.NUMBER_OF_LABS][2];
+
+    /**
+     * Creates an empty index.
+     */
+    public StatusBitmapIndex() {
+        for (BitSet[] row : exerciseBits) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = new BitSet();
+            }
+        }
+        for (BitSet[] row : labBits) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = new BitSet();
+            }
+        }
+    }
+
+    /**
+     * Adds the exercise statuses and lab attendance of {@code person}.
+     * {@code person} must not already be indexed.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        assert !slots.containsKey(person.getStudentId()) : "Person is already indexed";
+
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = slotOwners.size();
+            slotOwners.add(person.getStudentId());
+        } else {
+            slot = freeSlots.pop();
+            slotOwners.set(slot, person.getStudentId());
+        }
+        slots.put(person.getStudentId(), slot);
+        setBits(person, slot, true);
+    }
+
+    /**
+     * Removes {@code person} from the index, if present.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer slot = slots.remove(person.getStudentId());
+        if (slot == null) {
+            return;
+        }
+        setBits(person, slot, false);
+        slotOwners.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        slots.clear();
+        slotOwners.clear();
+        freeSlots.clear();
+        for (BitSet[] row : exerciseBits) {
+            for (BitSet bits : row) {
+                bits.clear();
+            }
+        }
+        for (BitSet[] row : labBits) {
+            for (BitSet bits : row) {
+                bits.clear();
+            }
+        }
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the slots of the persons whose exercise at zero-based {@code exerciseIndex} has {@code status}.
+     * The returned bitset is a copy and may be modified by the caller.
+     */
+    public BitSet getExerciseMatches(int exerciseIndex, Status status) {
+        requireNonNull(status);
+        if (exerciseIndex < 0 || exerciseIndex >= exerciseBits.length) {
+            return new BitSet();
+        }
+        return (BitSet) exerciseBits[exerciseIndex][status.ordinal()].clone();
+    }
+
+    /**
+     * Returns the slots of the persons who have ({@code isAttended}) or have not attended the lab at zero-based
+     * {@code labIndex}. Labs that have not happened yet count as not attended.
+     * The returned bitset is a copy and may be modified by the caller.
+     */
+    public BitSet getLabMatches(int labIndex, boolean isAttended) {
+        if (labIndex < 0 || labIndex >= labBits.length) {
+            return new BitSet();
+        }
+        return (BitSet) labBits[labIndex][isAttended ? LAB_ATTENDED : LAB_NOT_ATTENDED].clone();
+    }
+
+    /**
+     * Returns the student IDs of the persons in the given {@code slotBits}.
+     */
+    public Set<StudentId> getStudentIds(BitSet slotBits) {
+        requireNonNull(slotBits);
+        Set<StudentId> ids = new HashSet<>();
+        for (int slot = slotBits.nextSetBit(0); slot >= 0 && slot < slotOwners.size();
+                slot = slotBits.nextSetBit(slot + 1)) {
+            StudentId id = slotOwners.get(slot);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private void setBits(Person person, int slot, boolean value) {
+        ExerciseTracker exerciseTracker = person.getExerciseTracker();
+        for (int i = 0; i < ExerciseTracker.NUMBER_OF_EXERCISES && i < exerciseBits.length; i++) {
+            exerciseBits[i][exerciseTracker.statusAt(i).ordinal()].set(slot, value);
+        }
+
+        LabAttendanceList labs = person.getLabAttendanceList();
+        for (int i = 0; i < LabList.NUMBER_OF_LABS && i < labBits.length; i++) {
+            labBits[i][labs.isAttended(i) ? LAB_ATTENDED : LAB_NOT_ATTENDED].set(slot, value);
+        }
+    }
+}
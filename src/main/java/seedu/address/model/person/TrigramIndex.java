@@ -0,0 +1,133 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An inverted index from the lower-cased trigrams (substrings of length 3) of each {@link SearchableField}
+ * to the student IDs of the persons whose field contains that trigram.
+ *
+ * A keyword can only be a substring of a field value if every trigram of the keyword occurs in that value,
+ * so intersecting the postings of a keyword's trigrams gives a small candidate set that is a superset of the
+ * actual matches. Candidates still have to be verified against the keyword.
+ */
+public class TrigramIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final EnumMap<SearchableField, HashMap<String, Set<StudentId>>> postings =
+            new EnumMap<>(SearchableField.class);
+
+    /**
+     * Creates an empty index over every {@code SearchableField}.
+     */
+    public TrigramIndex() {
+        this(EnumSet.allOf(SearchableField.class));
+    }
+
+    /**
+     * Creates an empty index over the given {@code fields} only.
+     */
+    public TrigramIndex(Set<SearchableField> fields) {
+        requireNonNull(fields);
+        for (SearchableField field : fields) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds the trigrams of every searchable field of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        StudentId id = person.getStudentId();
+        for (SearchableField field : postings.keySet()) {
+            HashMap<String, Set<StudentId>> fieldPostings = postings.get(field);
+            for (String gram : trigramsOf(field.valuesOf(person))) {
+                fieldPostings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+            }
+        }
+    }
+
+    /**
+     * Removes the trigrams of every searchable field of {@code person}.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        StudentId id = person.getStudentId();
+        for (SearchableField field : postings.keySet()) {
+            HashMap<String, Set<StudentId>> fieldPostings = postings.get(field);
+            for (String gram : trigramsOf(field.valuesOf(person))) {
+                Set<StudentId> ids = fieldPostings.get(gram);
+                if (ids == null) {
+                    continue;
+                }
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    fieldPostings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        postings.values().forEach(HashMap::clear);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the student IDs of the persons whose {@code field} may contain {@code keyword}, ignoring case.
+     * Returns an empty {@code Optional} if {@code field} is not indexed or {@code keyword} is too short to be
+     * looked up, in which case every person is a candidate.
+     */
+    public Optional<Set<StudentId>> getCandidates(SearchableField field, String keyword) {
+        requireNonNull(field);
+        requireNonNull(keyword);
+        if (!postings.containsKey(field) || keyword.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        HashMap<String, Set<StudentId>> fieldPostings = postings.get(field);
+        List<Set<StudentId>> lists = new ArrayList<>();
+        for (String gram : trigramsOf(List.of(keyword))) {
+            Set<StudentId> ids = fieldPostings.get(gram);
+            if (ids == null) {
+                return Optional.of(Collections.emptySet());
+            }
+            lists.add(ids);
+        }
+
+        // intersect starting from the rarest trigram so the working set is as small as possible
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<StudentId> candidates = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i));
+        }
+        return Optional.of(candidates);
+    }
+
+    private static Set<String> trigramsOf(List<String> values) {
+        Set<String> grams = new HashSet<>();
+        for (String value : values) {
+            String lowerCased = value.toLowerCase();
+            for (int i = 0; i + GRAM_LENGTH <= lowerCased.length(); i++) {
+                grams.add(lowerCased.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return grams;
+    }
+}
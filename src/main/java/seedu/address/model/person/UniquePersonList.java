@@ -3,9 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +25,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * A {@code StudentId} to position index is kept in sync with the backing list so that identity lookups
+ * do not need to scan the whole list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,13 +37,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final HashMap<StudentId, Integer> positionIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positionIndex.containsKey(toCheck.getStudentId());
     }
 
     /**
@@ -47,6 +57,20 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        positionIndex.put(toAdd.getStudentId(), internalList.size() - 1);
+    }
+
+    /**
+     * Inserts a person into the list at {@code index}, shifting the persons after it back by one.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        reindexFrom(index);
     }
 
     /**
@@ -57,7 +81,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -67,6 +91,48 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        positionIndex.remove(target.getStudentId());
+        positionIndex.put(editedPerson.getStudentId(), index);
+    }
+
+    /**
+     * Replaces each person in {@code targets} with the person at the same position of {@code editedPersons}, and
+     * reports all the replacements to the observers of the list as a single change.
+     * Every replacement is checked before any is made, so either all of them are made or none is.
+     * Each target must exist in the list and appear only once. The person identity of an edited person must not be
+     * the same as that of any other person in the list after the replacements.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+        if (targets.size() != editedPersons.size()) {
+            throw new IllegalArgumentException("Every target must have exactly one edited person");
+        }
+
+        int[] positions = new int[targets.size()];
+        Set<StudentId> targetIds = new HashSet<>();
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = indexOf(targets.get(i));
+            if (positions[i] == -1 || !targetIds.add(targets.get(i).getStudentId())) {
+                throw new PersonNotFoundException();
+            }
+        }
+        Set<StudentId> editedIds = new HashSet<>();
+        for (Person editedPerson : editedPersons) {
+            StudentId editedId = editedPerson.getStudentId();
+            if (!editedIds.add(editedId) || (contains(editedPerson) && !targetIds.contains(editedId))) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        Person[] updatedPersons = internalList.toArray(new Person[0]);
+        for (int i = 0; i < positions.length; i++) {
+            updatedPersons[positions[i]] = editedPersons.get(i);
+        }
+        internalList.setAll(updatedPersons);
+        targetIds.forEach(positionIndex::remove);
+        for (int i = 0; i < positions.length; i++) {
+            positionIndex.put(editedPersons.get(i).getStudentId(), positions[i]);
+        }
     }
 
     /**
@@ -75,9 +141,14 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        positionIndex.remove(toRemove.getStudentId());
+        reindexFrom(index);
     }
 
     /**
@@ -86,11 +157,40 @@ public class UniquePersonList implements Iterable<Person> {
     public void sort(Comparator<Person> comparator) {
         requireNonNull(comparator);
         FXCollections.sort(internalList, comparator);
+        reindexFrom(0);
+    }
+
+    /**
+     * Rearranges the list into the order of {@code orderedPersons}, which must hold exactly the persons in the list.
+     * The persons in the list are kept; {@code orderedPersons} only gives their new positions.
+     */
+    public void reorder(List<Person> orderedPersons) {
+        requireAllNonNull(orderedPersons);
+        if (orderedPersons.size() != internalList.size()) {
+            throw new IllegalArgumentException("The new order must hold every person in the list exactly once");
+        }
+
+        Person[] reorderedPersons = new Person[orderedPersons.size()];
+        for (int i = 0; i < reorderedPersons.length; i++) {
+            Integer position = positionIndex.get(orderedPersons.get(i).getStudentId());
+            if (position == null) {
+                throw new PersonNotFoundException();
+            }
+            reorderedPersons[i] = internalList.get(position);
+        }
+        if (!personsAreUnique(Arrays.asList(reorderedPersons))) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.setAll(reorderedPersons);
+        reindexFrom(0);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
     }
 
     /**
@@ -104,6 +204,30 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        positionIndex.clear();
+        reindexFrom(0);
+    }
+
+    /**
+     * Returns the persons with the given {@code studentIds}, in the order they appear in this list.
+     * IDs that are not in the list are ignored.
+     */
+    public List<Person> getPersons(Collection<StudentId> studentIds) {
+        requireNonNull(studentIds);
+        List<Integer> positions = new ArrayList<>(studentIds.size());
+        for (StudentId id : studentIds) {
+            Integer position = positionIndex.get(id);
+            if (position != null) {
+                positions.add(position);
+            }
+        }
+        positions.sort(null);
+
+        List<Person> persons = new ArrayList<>(positions.size());
+        for (int position : positions) {
+            persons.add(internalList.get(position));
+        }
+        return persons;
     }
 
     /**
@@ -143,15 +267,36 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of the person that is equal to {@code person} in the list, or -1 if there is none.
+     * Only the position stored for the person's {@code StudentId} needs to be checked, since identities are unique.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer index = positionIndex.get(person.getStudentId());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Recomputes the stored positions of all persons from {@code start} to the end of the list.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getStudentId(), i);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<StudentId> seenIds = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenIds.add(person.getStudentId())) {
+                return false;
             }
         }
         return true;
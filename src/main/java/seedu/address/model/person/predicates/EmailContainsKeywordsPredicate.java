@@ -1,17 +1,17 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchableField;
 
 
 
 /**
  * Tests that a {@code Person}'s {@code Email} matches any of the keywords given.
  */
-public class EmailContainsKeywordsPredicate implements Predicate<Person> {
+public class EmailContainsKeywordsPredicate implements FieldContainsKeywordsPredicate {
     private final List<String> keywords;
 
     public EmailContainsKeywordsPredicate(List<String> keywords) {
@@ -26,6 +26,16 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(email::contains);
     }
 
+    @Override
+    public SearchableField getField() {
+        return SearchableField.EMAIL;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,19 +1,19 @@
 package seedu.address.model.person.predicates;
 
-import java.util.List;
-import java.util.function.Predicate;
+import java.util.BitSet;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.ExerciseTracker;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Status;
+import seedu.address.model.person.StatusBitmapIndex;
 
 
 /**
  * Tests that a {@code Person}'s {@code Exercise status} matches the status of the exercise stated.
  */
-public class ExerciseStatusMatchesPredicate implements Predicate<Person> {
+public class ExerciseStatusMatchesPredicate implements StatusBitmapPredicate {
     private Status status;
     private Index index;
 
@@ -32,9 +32,12 @@ public class ExerciseStatusMatchesPredicate implements Predicate<Person> {
     @Override
     public boolean test(Person person) {
         ExerciseTracker exerciseTracker = person.getExerciseTracker();
-        List<Status> exercises = exerciseTracker.getStatuses();
-        int number = index.getZeroBased();
-        return exercises.get(number).equals(status);
+        return exerciseTracker.statusAt(index.getZeroBased()).equals(status);
+    }
+
+    @Override
+    public BitSet getMatches(StatusBitmapIndex bitmapIndex) {
+        return bitmapIndex.getExerciseMatches(index.getZeroBased(), status);
     }
 
     @Override
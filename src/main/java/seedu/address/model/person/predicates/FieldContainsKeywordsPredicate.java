@@ -0,0 +1,18 @@
+package seedu.address.model.person.predicates;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchableField;
+
+/**
+ * A {@code Predicate} that matches a {@code Person} whose {@link SearchableField} contains any of the keywords,
+ * ignoring case. The field and keywords are exposed so that a search can be narrowed down by an index first.
+ */
+public interface FieldContainsKeywordsPredicate extends Predicate<Person> {
+
+    SearchableField getField();
+
+    List<String> getKeywords();
+}
@@ -1,16 +1,16 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchableField;
 
 
 /**
  * Tests that a {@code Person}'s {@code Github Username} matches any of the keywords given.
  */
-public class GithubContainsKeywordsPredicate implements Predicate<Person> {
+public class GithubContainsKeywordsPredicate implements FieldContainsKeywordsPredicate {
     private final List<String> keywords;
 
     public GithubContainsKeywordsPredicate(List<String> keywords) {
@@ -25,6 +25,16 @@ public class GithubContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(github::contains);
     }
 
+    @Override
+    public SearchableField getField() {
+        return SearchableField.GITHUB_USERNAME;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
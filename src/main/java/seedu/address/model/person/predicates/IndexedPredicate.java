@@ -0,0 +1,45 @@
+package seedu.address.model.person.predicates;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate} over {@code Person} that gives an index's answer while the address book is unchanged since the
+ * index was queried, and tests persons with the predicate the index stood in for once it has changed.
+ *
+ * A filtered list only tests again the persons that are added or replaced, so after a change the persons it tests
+ * are checked against the data they hold now, while the index's answer keeps each test of the first pass cheap.
+ */
+public class IndexedPredicate implements Predicate<Person> {
+
+    private final Predicate<Person> indexAnswer;
+    private final Predicate<Person> predicate;
+    private final LongSupplier version;
+    private final long indexedVersion;
+
+    /**
+     * Constructs a predicate that tests persons with {@code indexAnswer} while {@code version} is unchanged, and with
+     * {@code predicate} afterwards.
+     *
+     * @param indexAnswer the index's answer, which must agree with {@code predicate} on the current persons.
+     * @param predicate the predicate the index was queried for.
+     * @param version the modification version of the address book the index was queried on, which must be increased
+     *     before the person list tells its listeners about a change.
+     */
+    public IndexedPredicate(Predicate<Person> indexAnswer, Predicate<Person> predicate, LongSupplier version) {
+        requireAllNonNull(indexAnswer, predicate, version);
+        this.indexAnswer = indexAnswer;
+        this.predicate = predicate;
+        this.version = version;
+        this.indexedVersion = version.getAsLong();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return version.getAsLong() == indexedVersion ? indexAnswer.test(person) : predicate.test(person);
+    }
+}
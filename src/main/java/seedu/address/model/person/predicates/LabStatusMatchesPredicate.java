@@ -1,18 +1,17 @@
 package seedu.address.model.person.predicates;
 
-import java.util.function.Predicate;
+import java.util.BitSet;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.person.LabAttendance;
-import seedu.address.model.person.LabList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.StatusBitmapIndex;
 
 
 /**
  * Tests that a {@code Person}'s {@code Exercise status} matches the status of the lab stated.
  */
-public class LabStatusMatchesPredicate implements Predicate<Person> {
+public class LabStatusMatchesPredicate implements StatusBitmapPredicate {
     private boolean status;
     private Index index;
 
@@ -30,10 +29,12 @@ public class LabStatusMatchesPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        LabList labAttendanceList = (LabList) person.getLabAttendanceList();
-        LabAttendance[] labAttendances = labAttendanceList.getLabs();
-        int number = index.getZeroBased();
-        return labAttendances[number].isAttended() == status;
+        return person.getLabAttendanceList().isAttended(index.getZeroBased()) == status;
+    }
+
+    @Override
+    public BitSet getMatches(StatusBitmapIndex bitmapIndex) {
+        return bitmapIndex.getLabMatches(index.getZeroBased(), status);
     }
 
     @Override
@@ -0,0 +1,20 @@
+package seedu.address.model.person.predicates;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StatusBitmapIndex;
+
+/**
+ * A {@code Predicate} on an exercise or lab status of a {@code Person} that can also be answered from a
+ * {@link StatusBitmapIndex}, so that several such predicates can be AND-combined without testing every person.
+ */
+public interface StatusBitmapPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the slots in {@code index} of the persons that satisfy this predicate.
+     * The returned bitset may be modified by the caller.
+     */
+    BitSet getMatches(StatusBitmapIndex index);
+}
@@ -1,16 +1,16 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchableField;
 
 
 /**
  * Tests that a {@code Person}'s {@code StudentId} matches any of the keywords given.
  */
-public class StudentIdContainsKeywordsPredicate implements Predicate<Person> {
+public class StudentIdContainsKeywordsPredicate implements FieldContainsKeywordsPredicate {
     private final List<String> keywords;
 
     public StudentIdContainsKeywordsPredicate(List<String> keywords) {
@@ -25,6 +25,16 @@ public class StudentIdContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(id::contains);
     }
 
+    @Override
+    public SearchableField getField() {
+        return SearchableField.STUDENT_ID;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,17 +2,17 @@ package seedu.address.model.person.predicates;
 
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchableField;
 import seedu.address.model.tag.Tag;
 
 
 /**
  * Tests that a {@code Person}'s {@code StudentId} matches any of the keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements FieldContainsKeywordsPredicate {
     private final List<String> keywords;
 
     public TagContainsKeywordsPredicate(List<String> keywords) {
@@ -31,6 +31,16 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
                             .anyMatch(tag -> tag.contains(keyword)));
     }
 
+    @Override
+    public SearchableField getField() {
+        return SearchableField.TAG;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
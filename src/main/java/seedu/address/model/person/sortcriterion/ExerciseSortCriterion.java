@@ -1,18 +1,35 @@
 package seedu.address.model.person.sortcriterion;
 
 import java.util.Comparator;
+import java.util.List;
 
 import seedu.address.model.person.Person;
 
 /**
- * Sorts students by their exercise progress in descending order.
+ * Sorts students by their exercise progress in descending order by default.
  */
 public class ExerciseSortCriterion extends SortCriterion {
     public static final String CRITERION_KEYWORD = "ex";
 
+    /**
+     * Creates a criterion that sorts in descending order.
+     */
+    public ExerciseSortCriterion() {
+        this(true);
+    }
+
+    public ExerciseSortCriterion(boolean isDescending) {
+        super(isDescending);
+    }
+
+    @Override
+    protected Comparator<Person> getAscendingComparator() {
+        return Comparator.comparing(Person::getExerciseTracker);
+    }
+
     @Override
-    public Comparator<Person> getComparator() {
-        return Comparator.comparing(Person::getExerciseTracker, Comparator.reverseOrder());
+    protected SortKeys extractAscendingKeys(List<Person> persons) {
+        return SortKeys.comparingDouble(persons, person -> person.getExerciseTracker().calculateProgress());
     }
 
     @Override
@@ -1,18 +1,35 @@
 package seedu.address.model.person.sortcriterion;
 
 import java.util.Comparator;
+import java.util.List;
 
 import seedu.address.model.person.Person;
 
 /**
- * Sorts persons by their lab attendance in descending order.
+ * Sorts persons by their lab attendance in descending order by default.
  */
 public class LabSortCriterion extends SortCriterion {
     public static final String CRITERION_KEYWORD = "lab";
 
+    /**
+     * Creates a criterion that sorts in descending order.
+     */
+    public LabSortCriterion() {
+        this(true);
+    }
+
+    public LabSortCriterion(boolean isDescending) {
+        super(isDescending);
+    }
+
+    @Override
+    protected Comparator<Person> getAscendingComparator() {
+        return Comparator.comparing(Person::getLabAttendanceList);
+    }
+
     @Override
-    public Comparator<Person> getComparator() {
-        return Comparator.comparing(Person::getLabAttendanceList, Comparator.reverseOrder());
+    protected SortKeys extractAscendingKeys(List<Person> persons) {
+        return SortKeys.comparingDouble(persons, person -> person.getLabAttendanceList().calculateLabAttendance());
     }
 
     @Override
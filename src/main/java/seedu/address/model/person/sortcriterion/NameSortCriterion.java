@@ -1,20 +1,37 @@
 package seedu.address.model.person.sortcriterion;
 
 import java.util.Comparator;
+import java.util.List;
 
 import seedu.address.model.person.Person;
 
 /**
- * Sorts students by their name in ascending alphabetical order (case-insensitive).
+ * Sorts students by their name in ascending alphabetical order (case-insensitive) by default.
  */
 public class NameSortCriterion extends SortCriterion {
     public static final String CRITERION_KEYWORD = "name";
 
+    /**
+     * Creates a criterion that sorts in ascending order.
+     */
+    public NameSortCriterion() {
+        this(false);
+    }
+
+    public NameSortCriterion(boolean isDescending) {
+        super(isDescending);
+    }
+
     @Override
-    public Comparator<Person> getComparator() {
+    protected Comparator<Person> getAscendingComparator() {
         return Comparator.comparing(Person::getName);
     }
 
+    @Override
+    protected SortKeys extractAscendingKeys(List<Person> persons) {
+        return SortKeys.comparingString(persons, person -> person.getName().fullName.toLowerCase());
+    }
+
     @Override
     public String getDisplayString() {
         return "name";
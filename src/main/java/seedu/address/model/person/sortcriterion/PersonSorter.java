@@ -0,0 +1,62 @@
+package seedu.address.model.person.sortcriterion;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Sorts persons by one or more {@code SortCriterion}s, each breaking the ties left by the ones before it.
+ *
+ * The key of every criterion is extracted from each person once, and the positions of the persons are sorted by
+ * comparing those keys, so keys such as the lab attendance rate are not recomputed on every comparison.
+ * Persons that tie on every criterion are ordered by student ID, so the result does not depend on the order the
+ * persons were in. Large lists are sorted in parallel.
+ */
+public class PersonSorter {
+
+    /** Lists with at least this many persons are sorted in parallel. */
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private PersonSorter() {}
+
+    /**
+     * Returns the persons in {@code persons} sorted by {@code criteria}, leaving {@code persons} unchanged.
+     */
+    public static List<Person> sort(List<Person> persons, List<SortCriterion> criteria) {
+        requireAllNonNull(persons, criteria);
+        SortKeys[] keys = new SortKeys[criteria.size() + 1];
+        for (int i = 0; i < criteria.size(); i++) {
+            keys[i] = criteria.get(i).extractKeys(persons);
+        }
+        keys[criteria.size()] = new StudentIdSortCriterion().extractKeys(persons);
+
+        Comparator<Integer> comparator = (first, second) -> {
+            for (SortKeys key : keys) {
+                int result = key.compare(first, second);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+
+        Integer[] positions = new Integer[persons.size()];
+        Arrays.setAll(positions, i -> i);
+        if (positions.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(positions, comparator);
+        } else {
+            Arrays.sort(positions, comparator);
+        }
+
+        List<Person> sortedPersons = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            sortedPersons.add(persons.get(position));
+        }
+        return sortedPersons;
+    }
+}
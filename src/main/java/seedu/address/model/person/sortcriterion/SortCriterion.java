@@ -1,6 +1,7 @@
 package seedu.address.model.person.sortcriterion;
 
 import java.util.Comparator;
+import java.util.List;
 
 import seedu.address.model.person.Person;
 
@@ -9,12 +10,50 @@ import seedu.address.model.person.Person;
  * Subclasses define specific sorting behaviors.
  */
 public abstract class SortCriterion {
-    public static final String MESSAGE_CONSTRAINTS = "Sort Criterion should be one of: name, id, lab, ex";
+    public static final String ASCENDING_KEYWORD = "asc";
+    public static final String DESCENDING_KEYWORD = "desc";
+    public static final String MESSAGE_CONSTRAINTS = "Sort Criterion should be one of: name, id, lab, ex, "
+            + "optionally followed by " + ASCENDING_KEYWORD + " or " + DESCENDING_KEYWORD;
+
+    private final boolean isDescending;
+
+    /**
+     * @param isDescending whether persons are sorted from the highest key to the lowest
+     */
+    protected SortCriterion(boolean isDescending) {
+        this.isDescending = isDescending;
+    }
+
+    public boolean isDescending() {
+        return isDescending;
+    }
 
     /**
      * Returns the comparator for sorting Person objects according to this criterion.
      */
-    public abstract Comparator<Person> getComparator();
+    public Comparator<Person> getComparator() {
+        Comparator<Person> ascendingComparator = getAscendingComparator();
+        return isDescending ? ascendingComparator.reversed() : ascendingComparator;
+    }
+
+    /**
+     * Extracts the key of this criterion from every person in {@code persons}, so that the persons can be sorted
+     * without computing any key more than once.
+     */
+    public SortKeys extractKeys(List<Person> persons) {
+        SortKeys ascendingKeys = extractAscendingKeys(persons);
+        return isDescending ? (first, second) -> ascendingKeys.compare(second, first) : ascendingKeys;
+    }
+
+    /**
+     * Returns the comparator that orders Person objects from the lowest key to the highest.
+     */
+    protected abstract Comparator<Person> getAscendingComparator();
+
+    /**
+     * Returns the keys of {@code persons}, ordered in the same way as {@link #getAscendingComparator()}.
+     */
+    protected abstract SortKeys extractAscendingKeys(List<Person> persons);
 
     /**
      * Returns a user-friendly display string for this criterion.
@@ -31,7 +70,8 @@ public abstract class SortCriterion {
             return true;
         }
 
-        // Two criteria are equal if they're of the same class
-        return other != null && this.getClass().equals(other.getClass());
+        // Two criteria are equal if they're of the same class and sort in the same direction
+        return other != null && this.getClass().equals(other.getClass())
+                && isDescending == ((SortCriterion) other).isDescending;
     }
 }
@@ -0,0 +1,41 @@
+package seedu.address.model.person.sortcriterion;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The sort keys of a list of persons, extracted once and compared by the positions of the persons in that list.
+ */
+@FunctionalInterface
+public interface SortKeys {
+
+    /**
+     * Compares the keys of the persons at positions {@code first} and {@code second}.
+     */
+    int compare(int first, int second);
+
+    /**
+     * Returns the keys that compare the persons in {@code persons} in ascending order of {@code keyExtractor}.
+     */
+    static SortKeys comparingDouble(List<Person> persons, ToDoubleFunction<Person> keyExtractor) {
+        double[] keys = new double[persons.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keyExtractor.applyAsDouble(persons.get(i));
+        }
+        return (first, second) -> Double.compare(keys[first], keys[second]);
+    }
+
+    /**
+     * Returns the keys that compare the persons in {@code persons} in ascending order of {@code keyExtractor}.
+     */
+    static SortKeys comparingString(List<Person> persons, Function<Person, String> keyExtractor) {
+        String[] keys = new String[persons.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keyExtractor.apply(persons.get(i));
+        }
+        return (first, second) -> keys[first].compareTo(keys[second]);
+    }
+}
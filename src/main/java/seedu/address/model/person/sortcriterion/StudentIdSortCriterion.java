@@ -1,20 +1,37 @@
 package seedu.address.model.person.sortcriterion;
 
 import java.util.Comparator;
+import java.util.List;
 
 import seedu.address.model.person.Person;
 
 /**
- * Sorts student by their student ID in ascending order.
+ * Sorts student by their student ID in ascending order by default.
  */
 public class StudentIdSortCriterion extends SortCriterion {
     public static final String CRITERION_KEYWORD = "id";
 
+    /**
+     * Creates a criterion that sorts in ascending order.
+     */
+    public StudentIdSortCriterion() {
+        this(false);
+    }
+
+    public StudentIdSortCriterion(boolean isDescending) {
+        super(isDescending);
+    }
+
     @Override
-    public Comparator<Person> getComparator() {
+    protected Comparator<Person> getAscendingComparator() {
         return Comparator.comparing(Person::getStudentId);
     }
 
+    @Override
+    protected SortKeys extractAscendingKeys(List<Person> persons) {
+        return SortKeys.comparingString(persons, person -> person.getStudentId().value);
+    }
+
     @Override
     public String getDisplayString() {
         return "student id";
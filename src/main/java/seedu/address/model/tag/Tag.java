@@ -3,6 +3,10 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +16,12 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /**
+     * Shared instances, so that persons in the same tag group hold the same {@code Tag} object.
+     * Both keys and values are weakly held, so a tag is dropped once no person holds it any more.
+     */
+    private static final Map<Tag, WeakReference<Tag>> POOL = new WeakHashMap<>();
+
     public final String tagName;
 
     /**
@@ -25,6 +35,24 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} with the given name, creating it if it does not exist yet.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        Tag tag = new Tag(tagName);
+        synchronized (POOL) {
+            WeakReference<Tag> sharedReference = POOL.get(tag);
+            Tag sharedTag = sharedReference == null ? null : sharedReference.get();
+            if (sharedTag != null) {
+                return sharedTag;
+            }
+            POOL.put(tag, new WeakReference<>(tag));
+            return tag;
+        }
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
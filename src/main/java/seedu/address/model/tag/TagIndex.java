@@ -0,0 +1,86 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * A posting list from each tag, ignoring case, to the student IDs of the persons holding it.
+ * Since tags are used as tutorial group labels, there are few distinct tags and each has many members.
+ */
+public class TagIndex {
+
+    private final HashMap<String, Set<StudentId>> members = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the posting list of each of their tags.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            members.computeIfAbsent(keyOf(tag.tagName), key -> new HashSet<>()).add(person.getStudentId());
+        }
+    }
+
+    /**
+     * Removes {@code person} from the posting list of each of their tags.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            String key = keyOf(tag.tagName);
+            Set<StudentId> ids = members.get(key);
+            if (ids == null) {
+                continue;
+            }
+            ids.remove(person.getStudentId());
+            if (ids.isEmpty()) {
+                members.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        members.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the student IDs of the persons tagged with {@code tag}, ignoring case.
+     */
+    public Set<StudentId> getMembers(Tag tag) {
+        requireNonNull(tag);
+        return Set.copyOf(members.getOrDefault(keyOf(tag.tagName), Set.of()));
+    }
+
+    /**
+     * Returns the student IDs of the persons with a tag whose name contains {@code keyword}, ignoring case.
+     */
+    public Set<StudentId> getMembersOfTagsContaining(String keyword) {
+        requireNonNull(keyword);
+        String lowerCasedKeyword = keyOf(keyword);
+        Set<StudentId> ids = new HashSet<>();
+        for (Map.Entry<String, Set<StudentId>> entry : members.entrySet()) {
+            if (entry.getKey().contains(lowerCasedKeyword)) {
+                ids.addAll(entry.getValue());
+            }
+        }
+        return ids;
+    }
+
+    private static String keyOf(String tagName) {
+        return tagName.toLowerCase(Locale.ROOT);
+    }
+}
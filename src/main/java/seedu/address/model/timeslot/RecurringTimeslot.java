@@ -0,0 +1,154 @@
+package seedu.address.model.timeslot;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Represents a timeslot that is blocked every week for a number of weeks, such as a weekly lab session.
+ * Immutable.
+ *
+ * The rule is stored as its first occurrence, the number of weeks it repeats for, and the dates of the occurrences
+ * that are skipped. Occurrences are only worked out for the window being looked at, so a rule takes the same space
+ * however many weeks it covers.
+ */
+public class RecurringTimeslot {
+
+    public static final String MESSAGE_INVALID_WEEK_COUNT = "A recurring timeslot must repeat for at least one week";
+    public static final String MESSAGE_INVALID_EXCEPTION = "%1$s is not a date on which the timeslot recurs";
+
+    private static final long SECONDS_PER_WEEK = ChronoUnit.WEEKS.getDuration().getSeconds();
+
+    private final Timeslot firstOccurrence;
+    private final int weekCount;
+    private final SortedSet<LocalDate> exceptions;
+
+    /**
+     * Creates a RecurringTimeslot that blocks {@code firstOccurrence} and the same time in each of the following
+     * weeks, {@code weekCount} times in all, except on the dates in {@code exceptions}.
+     *
+     * @param weekCount must be positive.
+     * @param exceptions must only contain dates on which an occurrence starts.
+     */
+    public RecurringTimeslot(Timeslot firstOccurrence, int weekCount, Collection<LocalDate> exceptions) {
+        requireNonNull(firstOccurrence);
+        requireNonNull(exceptions);
+        if (weekCount <= 0) {
+            throw new IllegalArgumentException(MESSAGE_INVALID_WEEK_COUNT);
+        }
+        this.firstOccurrence = firstOccurrence;
+        this.weekCount = weekCount;
+        this.exceptions = Collections.unmodifiableSortedSet(new TreeSet<>(exceptions));
+        for (LocalDate date : this.exceptions) {
+            if (!isOccurrenceDate(date)) {
+                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_EXCEPTION, date));
+            }
+        }
+    }
+
+    public Timeslot getFirstOccurrence() {
+        return firstOccurrence;
+    }
+
+    public int getWeekCount() {
+        return weekCount;
+    }
+
+    /**
+     * Returns the dates of the skipped occurrences, earliest first.
+     */
+    public SortedSet<LocalDate> getExceptions() {
+        return exceptions;
+    }
+
+    /**
+     * Returns the occurrence in week {@code week}, counting the first occurrence as week 0, whether or not it is
+     * skipped.
+     */
+    public Timeslot getOccurrence(int week) {
+        return new Timeslot(firstOccurrence.getStart().plusWeeks(week), firstOccurrence.getEnd().plusWeeks(week));
+    }
+
+    /**
+     * Returns true if some occurrence, skipped or not, starts on {@code date}.
+     */
+    public boolean isOccurrenceDate(LocalDate date) {
+        requireNonNull(date);
+        long days = ChronoUnit.DAYS.between(firstOccurrence.getStart().toLocalDate(), date);
+        return days >= 0 && days % 7 == 0 && days / 7 < weekCount;
+    }
+
+    /**
+     * Returns true if at least one occurrence is not skipped.
+     */
+    public boolean hasOccurrences() {
+        return exceptions.size() < weekCount;
+    }
+
+    /**
+     * Returns the occurrences that are not skipped and that overlap {@code window}, earliest first.
+     * Occurrences that only touch the start or end of {@code window} do not overlap it.
+     * Takes time proportional to the number of occurrences returned, not to the number of weeks in the rule.
+     */
+    public List<Timeslot> getOccurrences(Timeslot window) {
+        requireNonNull(window);
+        List<Timeslot> occurrences = new ArrayList<>();
+        // occurrence k ends at the first end plus k weeks, so the first one to end after the window starts is known
+        long secondsToWindow = ChronoUnit.SECONDS.between(firstOccurrence.getEnd(), window.getStart());
+        long week = Math.max(0, Math.floorDiv(secondsToWindow, SECONDS_PER_WEEK) + 1);
+        for (; week < weekCount; week++) {
+            LocalDateTime start = firstOccurrence.getStart().plusWeeks(week);
+            if (!start.isBefore(window.getEnd())) {
+                break;
+            }
+            if (!exceptions.contains(start.toLocalDate())) {
+                occurrences.add(new Timeslot(start, firstOccurrence.getEnd().plusWeeks(week)));
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns a copy of this rule that also skips the occurrences starting on {@code dates}.
+     */
+    public RecurringTimeslot withExceptions(Collection<LocalDate> dates) {
+        requireNonNull(dates);
+        List<LocalDate> allExceptions = new ArrayList<>(exceptions);
+        allExceptions.addAll(dates);
+        return new RecurringTimeslot(firstOccurrence, weekCount, allExceptions);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RecurringTimeslot[First: %s, Weeks: %d, Except: %s]",
+                firstOccurrence, weekCount, exceptions);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof RecurringTimeslot)) {
+            return false;
+        }
+        RecurringTimeslot otherRule = (RecurringTimeslot) other;
+        return firstOccurrence.equals(otherRule.firstOccurrence)
+                && weekCount == otherRule.weekCount
+                && exceptions.equals(otherRule.exceptions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(firstOccurrence, weekCount, exceptions);
+    }
+}
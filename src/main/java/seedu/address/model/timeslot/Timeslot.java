@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
 import java.util.Objects;
 
 /**
@@ -18,6 +19,10 @@ public class Timeslot {
     // Separate, human-friendly formatter for display in the UI and user-facing messages.
     public static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("d MMM uuuu, HH:mm");
 
+    // Orders timeslots by start time, then by end time. Consistent with equals.
+    public static final Comparator<Timeslot> START_TIME_ORDER =
+            Comparator.comparing(Timeslot::getStart).thenComparing(Timeslot::getEnd);
+
     private final LocalDateTime start;
     private final LocalDateTime end;
 
@@ -0,0 +1,217 @@
+package seedu.address.model.timeslot;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * An interval tree of timeslots, ordered by {@link Timeslot#START_TIME_ORDER}.
+ *
+ * The tree is a treap in which every node also keeps the latest end time in its subtree, so whole subtrees that
+ * end before a range can be skipped. Adding, removing and finding a timeslot take O(log n) expected time, and
+ * finding the k timeslots that overlap a range takes O(log n + k). Equal timeslots may be stored more than once.
+ */
+public class TimeslotTree {
+
+    private static final long PRIORITY_SEED = 20251004L;
+
+    private final Random priorities = new Random(PRIORITY_SEED);
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code timeslot} to the tree, after any equal timeslots already in it.
+     */
+    public void add(Timeslot timeslot) {
+        requireNonNull(timeslot);
+        root = insert(root, new Node(timeslot, priorities.nextInt()));
+        size++;
+    }
+
+    /**
+     * Removes one occurrence of {@code timeslot} from the tree.
+     *
+     * @return true if the tree contained {@code timeslot}.
+     */
+    public boolean remove(Timeslot timeslot) {
+        requireNonNull(timeslot);
+        if (!contains(timeslot)) {
+            return false;
+        }
+        root = delete(root, timeslot);
+        size--;
+        return true;
+    }
+
+    /**
+     * Returns true if the tree contains a timeslot equal to {@code timeslot}.
+     */
+    public boolean contains(Timeslot timeslot) {
+        requireNonNull(timeslot);
+        Node node = root;
+        while (node != null) {
+            int comparison = Timeslot.START_TIME_ORDER.compare(timeslot, node.timeslot);
+            if (comparison == 0) {
+                return true;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the timeslots that overlap {@code range}, ordered by {@link Timeslot#START_TIME_ORDER}.
+     * Timeslots that only touch the start or end of {@code range} do not overlap it.
+     */
+    public List<Timeslot> overlapping(Timeslot range) {
+        requireNonNull(range);
+        List<Timeslot> result = new ArrayList<>();
+        forEachOverlapping(range, result::add);
+        return result;
+    }
+
+    /**
+     * Passes the timeslots that overlap {@code range} to {@code visitor} in {@link Timeslot#START_TIME_ORDER},
+     * stopping as soon as {@code visitor} returns false. Visiting the first k timeslots takes O(log n + k).
+     */
+    public void forEachOverlapping(Timeslot range, Predicate<Timeslot> visitor) {
+        requireNonNull(range);
+        requireNonNull(visitor);
+        visitOverlapping(root, range, visitor);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all timeslots from the tree.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns false if {@code visitor} asked to stop.
+     */
+    private static boolean visitOverlapping(Node node, Timeslot range, Predicate<Timeslot> visitor) {
+        if (node == null || !node.maxEnd.isAfter(range.getStart())) {
+            return true; // every timeslot in this subtree ends before the range starts
+        }
+        if (!visitOverlapping(node.left, range, visitor)) {
+            return false;
+        }
+        if (!node.timeslot.getStart().isBefore(range.getEnd())) {
+            return true; // this timeslot and every one to its right start after the range ends
+        }
+        if (node.timeslot.getEnd().isAfter(range.getStart()) && !visitor.test(node.timeslot)) {
+            return false;
+        }
+        return visitOverlapping(node.right, range, visitor);
+    }
+
+    private static Node insert(Node node, Node newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (newNode.priority > node.priority) {
+            Node[] parts = split(node, newNode.timeslot);
+            newNode.left = parts[0];
+            newNode.right = parts[1];
+            return newNode.update();
+        }
+        if (Timeslot.START_TIME_ORDER.compare(newNode.timeslot, node.timeslot) < 0) {
+            node.left = insert(node.left, newNode);
+        } else {
+            node.right = insert(node.right, newNode);
+        }
+        return node.update();
+    }
+
+    /**
+     * Removes one node holding {@code timeslot}, which must be in the subtree rooted at {@code node}.
+     */
+    private static Node delete(Node node, Timeslot timeslot) {
+        int comparison = Timeslot.START_TIME_ORDER.compare(timeslot, node.timeslot);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = delete(node.left, timeslot);
+        } else {
+            node.right = delete(node.right, timeslot);
+        }
+        return node.update();
+    }
+
+    /**
+     * Splits the subtree rooted at {@code node} into the timeslots up to and including {@code key}, and the
+     * timeslots after it.
+     */
+    private static Node[] split(Node node, Timeslot key) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (Timeslot.START_TIME_ORDER.compare(key, node.timeslot) < 0) {
+            Node[] parts = split(node.left, key);
+            node.left = parts[1];
+            parts[1] = node.update();
+            return parts;
+        }
+        Node[] parts = split(node.right, key);
+        node.right = parts[0];
+        parts[0] = node.update();
+        return parts;
+    }
+
+    /**
+     * Joins two subtrees, every timeslot in {@code left} being ordered no later than those in {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left.update();
+        }
+        right.left = merge(left, right.left);
+        return right.update();
+    }
+
+    private static class Node {
+        private final Timeslot timeslot;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private LocalDateTime maxEnd;
+
+        Node(Timeslot timeslot, int priority) {
+            this.timeslot = timeslot;
+            this.priority = priority;
+            this.maxEnd = timeslot.getEnd();
+        }
+
+        /**
+         * Recomputes the latest end time in this subtree from the children, and returns this node.
+         */
+        Node update() {
+            maxEnd = timeslot.getEnd();
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.Week;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable copy of the contents of a {@code ReadOnlyAddressBook}, taken so that it can be saved on another
+ * thread while the original keeps changing.
+ * Persons are immutable, so only the list is copied and none of the indexes of an {@code AddressBook} are built.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final Week currentWeek;
+    private final long version;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getPersonList()));
+        currentWeek = source.getCurrentWeek();
+        version = source.getVersion();
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public Week getCurrentWeek() {
+        return currentWeek;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+}
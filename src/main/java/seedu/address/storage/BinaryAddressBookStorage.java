@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.Week;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * Snapshots are much smaller and faster to load than JSON files, which makes them suited to archiving the data of
+ * past semesters. See {@link BinarySnapshotFormat} for the layout of the file.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The extension of snapshot files. An address book file with this extension is stored as a snapshot. */
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+            int[] header = BinarySnapshotFormat.readHeader(buffer);
+            int currentWeek = header[0];
+            AddressBook addressBook = new AddressBook();
+            addressBook.setCurrentWeek(new Week(currentWeek));
+            for (int i = 0; i < header[1]; i++) {
+                Person person = BinarySnapshotFormat.readPerson(buffer);
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            BinarySnapshotFormat.writeHeader(dataOut, addressBook.getCurrentWeek().getWeekNumber(),
+                    addressBook.getPersonList().size());
+            for (Person person : addressBook.getPersonList()) {
+                BinarySnapshotFormat.writePerson(dataOut, person);
+            }
+            dataOut.flush();
+        });
+    }
+
+    /**
+     * Maps the snapshot at {@code filePath} into memory without decoding any persons, for browsing archives that
+     * are too large to load in full.
+     *
+     * @throws DataLoadingException if the file could not be mapped or is not a valid snapshot.
+     * @see MappedAddressBookSnapshot
+     */
+    public static MappedAddressBookSnapshot openMapped(Path filePath) throws DataLoadingException {
+        return MappedAddressBookSnapshot.open(filePath);
+    }
+
+    /**
+     * Converts the JSON address book at {@code jsonFilePath} into a snapshot at {@code snapshotFilePath}.
+     *
+     * @throws DataLoadingException if the JSON file is missing or could not be loaded.
+     * @throws IOException if there was any problem writing the snapshot.
+     */
+    public static void convertJsonToSnapshot(Path jsonFilePath, Path snapshotFilePath)
+            throws DataLoadingException, IOException {
+        ReadOnlyAddressBook addressBook = new JsonAddressBookStorage(jsonFilePath).readAddressBook()
+                .orElseThrow(() -> new DataLoadingException(new IOException("File not found: " + jsonFilePath)));
+        new BinaryAddressBookStorage(snapshotFilePath).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Converts the snapshot at {@code snapshotFilePath} into a JSON address book at {@code jsonFilePath}.
+     * The snapshot is mapped rather than read whole, so each person is decoded only as it is written out.
+     *
+     * @throws DataLoadingException if the snapshot is missing or could not be loaded.
+     * @throws IOException if there was any problem writing the JSON file.
+     */
+    public static void convertSnapshotToJson(Path snapshotFilePath, Path jsonFilePath)
+            throws DataLoadingException, IOException {
+        ReadOnlyAddressBook addressBook = openMapped(snapshotFilePath);
+        try {
+            new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+        } catch (IllegalStateException ise) {
+            throw new DataLoadingException(ise);
+        }
+    }
+
+}
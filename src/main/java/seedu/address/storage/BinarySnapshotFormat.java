@@ -0,0 +1,265 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ExamKind;
+import seedu.address.model.person.ExerciseTracker;
+import seedu.address.model.person.GithubUsername;
+import seedu.address.model.person.GradeMap;
+import seedu.address.model.person.LabList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Status;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The layout of an address book snapshot in binary form.
+ *
+ * A snapshot is a header followed by one record per person, in display order:
+ * <pre>
+ * header: int magic, short format version, int current week, int number of persons
+ * record: int length of the rest of the record,
+ *         strings student ID, name, phone, email, GitHub username,
+ *         short number of tags, then each tag name as a string,
+ *         short lab attendance mask, int packed exercise statuses,
+ *         double score of each exam in {@link ExamKind} order, NaN if ungraded
+ * string: unsigned short length, then the UTF-8 bytes
+ * </pre>
+ * All numbers are big-endian. Bit {@code i} of the lab attendance mask is set if lab {@code i + 1} was attended,
+ * and bits {@code 2i} and {@code 2i + 1} of the packed exercise statuses hold the ordinal of the status of
+ * exercise {@code i}.
+ */
+final class BinarySnapshotFormat {
+
+    /** "LLAB" in ASCII. */
+    static final int MAGIC = 0x4C4C4142;
+    static final short FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES + Integer.BYTES;
+
+    static final String MESSAGE_NOT_A_SNAPSHOT = "File is not an address book snapshot";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported address book snapshot version: %d";
+    static final String MESSAGE_CORRUPT_RECORD = "Address book snapshot has a corrupt person record";
+
+    private static final int MAX_STRING_LENGTH = 0xFFFF;
+    private static final int BITS_PER_STATUS = 2;
+    private static final int STATUS_MASK = (1 << BITS_PER_STATUS) - 1;
+    private static final Status[] STATUSES = Status.values();
+    private static final ExamKind[] EXAM_KINDS = ExamKind.values();
+
+    private BinarySnapshotFormat() {}
+
+    /**
+     * Writes the header of a snapshot holding {@code personCount} persons in week {@code currentWeek}.
+     */
+    static void writeHeader(DataOutputStream out, int currentWeek, int personCount) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeInt(currentWeek);
+        out.writeInt(personCount);
+    }
+
+    /**
+     * Reads the header at the position of {@code buffer} and returns the current week and number of persons,
+     * in that order.
+     *
+     * @throws IllegalValueException if the buffer does not start with a header this version can read.
+     */
+    static int[] readHeader(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        short version = buffer.getShort();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        int currentWeek = buffer.getInt();
+        int personCount = buffer.getInt();
+        if (personCount < 0) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        return new int[] {currentWeek, personCount};
+    }
+
+    /**
+     * Writes the record of {@code person}, including its length prefix.
+     */
+    static void writePerson(DataOutputStream out, Person person) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream record = new DataOutputStream(bytes);
+        writeString(record, person.getStudentId().value);
+        writeString(record, person.getName().fullName);
+        writeString(record, person.getPhone().value);
+        writeString(record, person.getEmail().value);
+        writeString(record, person.getGithubUsername().value);
+        record.writeShort(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeString(record, tag.tagName);
+        }
+        record.writeShort(person.getLabAttendanceList().getAttendedMask());
+        record.writeInt(packStatuses(person.getExerciseTracker()));
+        for (ExamKind examKind : EXAM_KINDS) {
+            record.writeDouble(person.getGradeMap().getScore(examKind));
+        }
+
+        out.writeInt(bytes.size());
+        bytes.writeTo(out);
+    }
+
+    /**
+     * Reads the record at the position of {@code buffer}, including its length prefix, and leaves the buffer
+     * positioned after it.
+     *
+     * @throws IllegalValueException if the record is truncated or any of its values are invalid.
+     */
+    static Person readPerson(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPT_RECORD);
+            }
+            ByteBuffer record = buffer.slice();
+            record.limit(length);
+            buffer.position(buffer.position() + length);
+            return decodePerson(record);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_RECORD, e);
+        }
+    }
+
+    /**
+     * Returns the position right after the record at {@code position} of {@code buffer}.
+     *
+     * @throws IllegalValueException if the record runs past the end of the buffer.
+     */
+    static int skipPerson(ByteBuffer buffer, int position) throws IllegalValueException {
+        if (position > buffer.limit() - Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_RECORD);
+        }
+        int length = buffer.getInt(position);
+        if (length < 0 || length > buffer.limit() - position - Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_RECORD);
+        }
+        return position + Integer.BYTES + length;
+    }
+
+    /**
+     * Returns the student ID of the record at {@code position} of {@code buffer} without decoding the rest of it.
+     *
+     * @throws IllegalValueException if the student ID runs past the end of the buffer.
+     */
+    static String readStudentId(ByteBuffer buffer, int position) throws IllegalValueException {
+        ByteBuffer record = buffer.duplicate();
+        record.position(position + Integer.BYTES);
+        try {
+            return readString(record);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_RECORD, e);
+        }
+    }
+
+    private static Person decodePerson(ByteBuffer record) throws IllegalValueException {
+        StudentId studentId = new StudentId(readValid(record, StudentId::isValidStudentId,
+                StudentId.MESSAGE_CONSTRAINTS));
+        Name name = new Name(readValid(record, Name::isValidName, Name.MESSAGE_CONSTRAINTS));
+        Phone phone = new Phone(readValid(record, Phone::isValidPhone, Phone.MESSAGE_CONSTRAINTS));
+        Email email = new Email(readValid(record, Email::isValidEmail, Email.MESSAGE_CONSTRAINTS));
+        GithubUsername githubUsername = new GithubUsername(readValid(record, GithubUsername::isValidGithubUsername,
+                GithubUsername.MESSAGE_CONSTRAINTS));
+
+        int tagCount = Short.toUnsignedInt(record.getShort());
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.of(readValid(record, Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS)));
+        }
+
+        LabList labs = unpackLabs(record.getShort());
+        ExerciseTracker exerciseTracker = unpackStatuses(record.getInt());
+        GradeMap gradeMap = new GradeMap();
+        for (ExamKind examKind : EXAM_KINDS) {
+            double score = record.getDouble();
+            if (Double.isNaN(score)) {
+                continue;
+            }
+            if (score < 0 || score > 100.0) {
+                throw new IllegalValueException(MESSAGE_CORRUPT_RECORD);
+            }
+            gradeMap.setPercentageScore(examKind, score);
+        }
+
+        return new Person(studentId, name, phone, email, tags, githubUsername, exerciseTracker, labs, gradeMap);
+    }
+
+    private static String readValid(ByteBuffer record, Predicate<String> isValid, String message)
+            throws IllegalValueException {
+        String value;
+        try {
+            value = readString(record);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_RECORD, e);
+        }
+        if (!isValid.test(value)) {
+            throw new IllegalValueException(message);
+        }
+        return value;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_LENGTH) {
+            throw new IOException("Value is too long to be saved in a snapshot: " + value.substring(0, 20) + "...");
+        }
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        if (length > buffer.remaining()) {
+            throw new IllegalArgumentException(MESSAGE_CORRUPT_RECORD);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static LabList unpackLabs(short mask) throws IllegalValueException {
+        try {
+            return LabList.fromAttendedMask(Short.toUnsignedInt(mask));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPT_RECORD, e);
+        }
+    }
+
+    private static int packStatuses(ExerciseTracker exerciseTracker) {
+        int packed = 0;
+        for (int i = 0; i < ExerciseTracker.NUMBER_OF_EXERCISES; i++) {
+            packed |= exerciseTracker.statusAt(i).ordinal() << (i * BITS_PER_STATUS);
+        }
+        return packed;
+    }
+
+    private static ExerciseTracker unpackStatuses(int packed) throws IllegalValueException {
+        ArrayList<Status> statuses = new ArrayList<>(ExerciseTracker.NUMBER_OF_EXERCISES);
+        for (int i = 0; i < ExerciseTracker.NUMBER_OF_EXERCISES; i++) {
+            int ordinal = (packed >>> (i * BITS_PER_STATUS)) & STATUS_MASK;
+            if (ordinal >= STATUSES.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPT_RECORD);
+            }
+            statuses.add(STATUSES[ordinal]);
+        }
+        return new ExerciseTracker(statuses);
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.DataChangeListener;
+import seedu.address.model.Timeslots;
+
+/**
+ * Represents an append-only journal of the changes made to the address book and timeslots since they were last
+ * saved in full. Changes are reported to the journal as a {@link DataChangeListener} and made durable one command
+ * at a time, so persisting a command only costs as much as the command changed.
+ */
+public interface JournalStorage extends DataChangeListener {
+
+    /**
+     * Returns the file path of the journal file.
+     */
+    Path getJournalFilePath();
+
+    /**
+     * Appends the changes reported since the last commit to the journal as a single record for
+     * {@code commandText}, and forces the record to disk. Does nothing if there were no changes.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void commitJournal(String commandText) throws IOException;
+
+    /**
+     * Returns the number of records in the journal.
+     */
+    int getJournalSize();
+
+    /**
+     * Moves the records in the journal aside so that new records start an empty journal, and discards any changes
+     * that have not been committed. This should be done right after a snapshot of the address book and timeslots
+     * is taken; the moved records are only deleted by {@link #clearArchivedJournal(long)} once the snapshot has
+     * been saved.
+     *
+     * @return the generation of the archived records, to be passed to {@link #clearArchivedJournal(long)}.
+     * @throws IOException if there was any problem moving the records.
+     */
+    long archiveJournal() throws IOException;
+
+    /**
+     * Deletes the archived records if nothing has been archived since {@code generation} was returned by
+     * {@link #archiveJournal()}.
+     *
+     * @throws IOException if there was any problem deleting the records.
+     */
+    void clearArchivedJournal(long generation) throws IOException;
+
+    /**
+     * Applies every archived record and then every record in the journal to {@code addressBook} and
+     * {@code timeslots}, oldest first.
+     * Records that cannot be read, such as one that was only partly written, are skipped.
+     *
+     * @return the number of records applied.
+     * @throws DataLoadingException if a record violates the data constraints.
+     */
+    int replayJournal(AddressBook addressBook, Timeslots timeslots) throws DataLoadingException;
+
+    /**
+     * Empties the journal, including any archived records, and discards any changes that have not been committed.
+     * This should be done right after the address book and timeslots are saved in full.
+     *
+     * @throws IOException if there was any problem deleting the file.
+     */
+    void clearJournal() throws IOException;
+}
@@ -3,7 +3,9 @@ package seedu.address.storage;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.model.person.ExamKind;
 import seedu.address.model.person.Examination;
+import seedu.address.model.person.GradeMap;
 import seedu.address.model.person.exceptions.InvalidScoreException;
 
 
@@ -26,12 +28,12 @@ public class JsonAdaptedExamination {
     }
 
     /**
-     * Constructs a JSON adapted examination from the source
-     * @param source from which exam is created
+     * Constructs a JSON adapted examination from the score of {@code examKind} in {@code source}.
+     * An ungraded exam is saved with a score of -1.
      */
-    public JsonAdaptedExamination(Examination source) {
-        this.name = source.getName();
-        this.score = source.getScore();
+    public JsonAdaptedExamination(ExamKind examKind, GradeMap source) {
+        this.name = examKind.getExamName();
+        this.score = source.isGraded(examKind) ? source.getScore(examKind) : -1.0;
     }
 
     /**
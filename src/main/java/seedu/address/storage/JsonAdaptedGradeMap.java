@@ -2,10 +2,11 @@ package seedu.address.storage;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.ExamKind;
 import seedu.address.model.person.Examination;
 import seedu.address.model.person.GradeMap;
 
@@ -13,32 +14,46 @@ import seedu.address.model.person.GradeMap;
  * Jackson-friendly version of {@link GradeMap}.
  */
 public class JsonAdaptedGradeMap {
+    public static final String MESSAGE_UNKNOWN_EXAM = "Grades include an unknown exam: %s";
+
     private Map<String, JsonAdaptedExamination> assessments = new HashMap<>();
 
     @JsonCreator
     public JsonAdaptedGradeMap() {
 
     }
+
+    /**
+     * Constructs a {@code JsonAdaptedGradeMap} with the given assessments, keyed by exam name.
+     */
+    public JsonAdaptedGradeMap(Map<String, JsonAdaptedExamination> assessments) {
+        this.assessments = assessments;
+    }
+
     /**
      * Constructs a {@code JsonAdaptedGradeMap} from the given source {@code GradeMap}.
      */
     public JsonAdaptedGradeMap(GradeMap source) {
-        this.assessments = source.getGradeableHashMap().entrySet().stream()
-                .filter(entry -> entry.getValue() instanceof Examination)
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> new JsonAdaptedExamination((Examination) entry.getValue())
-                ));
+        for (ExamKind examKind : ExamKind.values()) {
+            assessments.put(examKind.getExamName(), new JsonAdaptedExamination(examKind, source));
+        }
     }
+
     /**
      * Converts this JSON-adapted grade map into the model's {@code GradeMap} object.
+     *
+     * @throws IllegalValueException if an assessment is not one of the exams in {@link GradeMap#VALID_EXAM_NAMES}.
      */
-    public GradeMap toModelType() {
+    public GradeMap toModelType() throws IllegalValueException {
         GradeMap modelMap = new GradeMap();
-        assessments.forEach((key, adaptedExam) -> {
-            Examination exam = adaptedExam.toModelType();
-            modelMap.putExam(key, exam);
-        });
+        for (Map.Entry<String, JsonAdaptedExamination> entry : assessments.entrySet()) {
+            ExamKind examKind = ExamKind.fromExamName(entry.getKey()).orElseThrow(() ->
+                    new IllegalValueException(String.format(MESSAGE_UNKNOWN_EXAM, entry.getKey())));
+            Examination exam = entry.getValue().toModelType();
+            if (exam.getScore() >= 0) {
+                modelMap.setPercentageScore(examKind, exam.getScore());
+            }
+        }
         return modelMap;
     }
 
@@ -0,0 +1,305 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Timeslots;
+import seedu.address.model.Week;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.timeslot.RecurringTimeslot;
+import seedu.address.model.timeslot.Timeslot;
+
+/**
+ * Jackson-friendly version of a single change to the address book or timeslots, as recorded in the journal.
+ *
+ * Changes are replayed by their effect rather than by the operation that caused them: a person is put in place
+ * by {@code StudentId} and a timeslot is only added if it is missing. Replaying a change that has already been
+ * applied therefore leaves the data as it was, so a journal that outlives its checkpoint does no harm.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal change's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_TYPE = "Unknown journal change type: %s";
+
+    /**
+     * The kinds of change that can be journaled.
+     */
+    enum Type {
+        ADD_PERSON, REMOVE_PERSON, REPLACE_PERSON, REORDER_PERSONS, RESET_PERSONS, SET_WEEK,
+        ADD_TIMESLOT, REMOVE_TIMESLOT, RESET_TIMESLOTS,
+        ADD_RECURRING_TIMESLOT, REMOVE_RECURRING_TIMESLOT, RESET_RECURRING_TIMESLOTS
+    }
+
+    private final Type type;
+    private final Integer index;
+    private final String studentId;
+    private final JsonAdaptedPerson person;
+    private final List<String> order;
+    private final List<JsonAdaptedPerson> persons;
+    private final Integer week;
+    private final JsonAdaptedTimeslot timeslot;
+    private final List<JsonAdaptedTimeslot> timeslots;
+    private final JsonAdaptedRecurringTimeslot recurringTimeslot;
+    private final List<JsonAdaptedRecurringTimeslot> recurringTimeslots;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalChange} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalChange(@JsonProperty("type") Type type,
+                                    @JsonProperty("index") Integer index,
+                                    @JsonProperty("studentId") String studentId,
+                                    @JsonProperty("person") JsonAdaptedPerson person,
+                                    @JsonProperty("order") List<String> order,
+                                    @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                    @JsonProperty("week") Integer week,
+                                    @JsonProperty("timeslot") JsonAdaptedTimeslot timeslot,
+                                    @JsonProperty("timeslots") List<JsonAdaptedTimeslot> timeslots,
+                                    @JsonProperty("recurringTimeslot") JsonAdaptedRecurringTimeslot recurringTimeslot,
+                                    @JsonProperty("recurringTimeslots")
+                                            List<JsonAdaptedRecurringTimeslot> recurringTimeslots) {
+        this.type = type;
+        this.index = index;
+        this.studentId = studentId;
+        this.person = person;
+        this.order = order;
+        this.persons = persons;
+        this.week = week;
+        this.timeslot = timeslot;
+        this.timeslots = timeslots;
+        this.recurringTimeslot = recurringTimeslot;
+        this.recurringTimeslots = recurringTimeslots;
+    }
+
+    /**
+     * Returns a change that inserts {@code person} at {@code index}.
+     */
+    public static JsonAdaptedJournalChange personAdded(int index, Person person) {
+        return new JsonAdaptedJournalChange(Type.ADD_PERSON, index, null, new JsonAdaptedPerson(person),
+                null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns a change that removes {@code person}.
+     */
+    public static JsonAdaptedJournalChange personRemoved(Person person) {
+        return new JsonAdaptedJournalChange(Type.REMOVE_PERSON, null, person.getStudentId().value, null,
+                null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns a change that replaces {@code target} with {@code editedPerson}.
+     */
+    public static JsonAdaptedJournalChange personReplaced(Person target, Person editedPerson) {
+        return new JsonAdaptedJournalChange(Type.REPLACE_PERSON, null, target.getStudentId().value,
+                new JsonAdaptedPerson(editedPerson), null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns a change that puts the persons with the given student IDs in the order of {@code persons}.
+     */
+    public static JsonAdaptedJournalChange personsReordered(List<Person> persons) {
+        List<String> ids = new ArrayList<>(persons.size());
+        persons.forEach(p -> ids.add(p.getStudentId().value));
+        return new JsonAdaptedJournalChange(Type.REORDER_PERSONS, null, null, null, ids, null, null, null, null,
+                null, null);
+    }
+
+    /**
+     * Returns a change that replaces the whole person list with {@code persons}.
+     */
+    public static JsonAdaptedJournalChange personsReset(List<Person> persons) {
+        List<JsonAdaptedPerson> adapted = new ArrayList<>(persons.size());
+        persons.forEach(p -> adapted.add(new JsonAdaptedPerson(p)));
+        return new JsonAdaptedJournalChange(Type.RESET_PERSONS, null, null, null, null, adapted, null, null, null,
+                null, null);
+    }
+
+    /**
+     * Returns a change that sets the current week to {@code week}.
+     */
+    public static JsonAdaptedJournalChange weekChanged(Week week) {
+        return new JsonAdaptedJournalChange(Type.SET_WEEK, null, null, null, null, null, week.getWeekNumber(),
+                null, null, null, null);
+    }
+
+    /**
+     * Returns a change that adds {@code timeslot}.
+     */
+    public static JsonAdaptedJournalChange timeslotAdded(Timeslot timeslot) {
+        return new JsonAdaptedJournalChange(Type.ADD_TIMESLOT, null, null, null, null, null, null,
+                new JsonAdaptedTimeslot(timeslot), null, null, null);
+    }
+
+    /**
+     * Returns a change that removes {@code timeslot}.
+     */
+    public static JsonAdaptedJournalChange timeslotRemoved(Timeslot timeslot) {
+        return new JsonAdaptedJournalChange(Type.REMOVE_TIMESLOT, null, null, null, null, null, null,
+                new JsonAdaptedTimeslot(timeslot), null, null, null);
+    }
+
+    /**
+     * Returns a change that replaces all timeslots with {@code timeslots}.
+     */
+    public static JsonAdaptedJournalChange timeslotsReset(List<Timeslot> timeslots) {
+        List<JsonAdaptedTimeslot> adapted = new ArrayList<>(timeslots.size());
+        timeslots.forEach(t -> adapted.add(new JsonAdaptedTimeslot(t)));
+        return new JsonAdaptedJournalChange(Type.RESET_TIMESLOTS, null, null, null, null, null, null, null,
+                adapted, null, null);
+    }
+
+    /**
+     * Returns a change that adds {@code recurringTimeslot}.
+     */
+    public static JsonAdaptedJournalChange recurringTimeslotAdded(RecurringTimeslot recurringTimeslot) {
+        return new JsonAdaptedJournalChange(Type.ADD_RECURRING_TIMESLOT, null, null, null, null, null, null, null,
+                null, new JsonAdaptedRecurringTimeslot(recurringTimeslot), null);
+    }
+
+    /**
+     * Returns a change that removes {@code recurringTimeslot}.
+     */
+    public static JsonAdaptedJournalChange recurringTimeslotRemoved(RecurringTimeslot recurringTimeslot) {
+        return new JsonAdaptedJournalChange(Type.REMOVE_RECURRING_TIMESLOT, null, null, null, null, null, null, null,
+                null, new JsonAdaptedRecurringTimeslot(recurringTimeslot), null);
+    }
+
+    /**
+     * Returns a change that replaces all recurring timeslots with {@code recurringTimeslots}.
+     */
+    public static JsonAdaptedJournalChange recurringTimeslotsReset(List<RecurringTimeslot> recurringTimeslots) {
+        List<JsonAdaptedRecurringTimeslot> adapted = new ArrayList<>(recurringTimeslots.size());
+        recurringTimeslots.forEach(r -> adapted.add(new JsonAdaptedRecurringTimeslot(r)));
+        return new JsonAdaptedJournalChange(Type.RESET_RECURRING_TIMESLOTS, null, null, null, null, null, null, null,
+                null, null, adapted);
+    }
+
+    /**
+     * Applies this change to {@code targetAddressBook} and {@code targetTimeslots}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the recorded change.
+     */
+    public void applyTo(AddressBook targetAddressBook, Timeslots targetTimeslots) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (type) {
+        case ADD_PERSON:
+            putPerson(targetAddressBook, Optional.empty(), requirePerson().toModelType(), requireField(index, "index"));
+            break;
+        case REMOVE_PERSON:
+            targetAddressBook.findPersonByStudentId(requireStudentId()).ifPresent(targetAddressBook::removePerson);
+            break;
+        case REPLACE_PERSON:
+            Optional<Person> target = targetAddressBook.findPersonByStudentId(requireStudentId());
+            putPerson(targetAddressBook, target, requirePerson().toModelType(),
+                    targetAddressBook.getPersonList().size());
+            break;
+        case REORDER_PERSONS:
+            HashMap<String, Integer> positions = new HashMap<>();
+            List<String> ids = requireField(order, "order");
+            for (int i = 0; i < ids.size(); i++) {
+                positions.put(ids.get(i), i);
+            }
+            targetAddressBook.sortPersons((first, second) -> Integer.compare(
+                    positions.getOrDefault(first.getStudentId().value, Integer.MAX_VALUE),
+                    positions.getOrDefault(second.getStudentId().value, Integer.MAX_VALUE)));
+            break;
+        case RESET_PERSONS:
+            List<Person> modelPersons = new ArrayList<>();
+            for (JsonAdaptedPerson adapted : requireField(persons, "persons")) {
+                modelPersons.add(adapted.toModelType());
+            }
+            targetAddressBook.setPersons(modelPersons);
+            break;
+        case SET_WEEK:
+            int weekNumber = requireField(week, "week");
+            targetAddressBook.setCurrentWeek(new Week(weekNumber));
+            break;
+        case ADD_TIMESLOT:
+            Timeslot added = requireField(timeslot, "timeslot").toModelType();
+            if (!targetTimeslots.hasTimeslot(added)) {
+                targetTimeslots.addTimeslot(added);
+            }
+            break;
+        case REMOVE_TIMESLOT:
+            targetTimeslots.removeTimeslot(requireField(timeslot, "timeslot").toModelType());
+            break;
+        case RESET_TIMESLOTS:
+            List<Timeslot> modelTimeslots = new ArrayList<>();
+            for (JsonAdaptedTimeslot adapted : requireField(timeslots, "timeslots")) {
+                modelTimeslots.add(adapted.toModelType());
+            }
+            targetTimeslots.setTimeslots(modelTimeslots);
+            break;
+        case ADD_RECURRING_TIMESLOT:
+            RecurringTimeslot addedRule = requireField(recurringTimeslot, "recurringTimeslot").toModelType();
+            if (!targetTimeslots.hasRecurringTimeslot(addedRule)) {
+                targetTimeslots.addRecurringTimeslot(addedRule);
+            }
+            break;
+        case REMOVE_RECURRING_TIMESLOT:
+            targetTimeslots.removeRecurringTimeslot(
+                    requireField(recurringTimeslot, "recurringTimeslot").toModelType());
+            break;
+        case RESET_RECURRING_TIMESLOTS:
+            List<RecurringTimeslot> modelRecurringTimeslots = new ArrayList<>();
+            for (JsonAdaptedRecurringTimeslot adapted : requireField(recurringTimeslots, "recurringTimeslots")) {
+                modelRecurringTimeslots.add(adapted.toModelType());
+            }
+            targetTimeslots.setRecurringTimeslots(modelRecurringTimeslots);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+    }
+
+    /**
+     * Puts {@code person} in place of {@code target} if it is present, or in place of the person with the same
+     * student ID if there is one, or otherwise inserts it at {@code index}.
+     */
+    private static void putPerson(AddressBook addressBook, Optional<Person> target, Person person, int index) {
+        Optional<Person> holder = addressBook.findPersonByStudentId(person.getStudentId());
+        if (target.isPresent()) {
+            if (holder.isPresent() && !holder.equals(target)) {
+                addressBook.removePerson(holder.get());
+            }
+            addressBook.setPerson(target.get(), person);
+        } else if (holder.isPresent()) {
+            addressBook.setPerson(holder.get(), person);
+        } else {
+            addressBook.addPerson(Math.min(index, addressBook.getPersonList().size()), person);
+        }
+    }
+
+    private JsonAdaptedPerson requirePerson() throws IllegalValueException {
+        return requireField(person, "person");
+    }
+
+    private StudentId requireStudentId() throws IllegalValueException {
+        String value = requireField(studentId, "studentId");
+        if (!StudentId.isValidStudentId(value)) {
+            throw new IllegalValueException(StudentId.MESSAGE_CONSTRAINTS);
+        }
+        return new StudentId(value);
+    }
+
+    private static <T> T requireField(T value, String fieldName) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return value;
+    }
+}
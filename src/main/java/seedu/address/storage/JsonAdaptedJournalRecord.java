@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Timeslots;
+
+/**
+ * Jackson-friendly version of one journal record: the changes made by a single command.
+ */
+class JsonAdaptedJournalRecord {
+
+    private final String command;
+    private final List<JsonAdaptedJournalChange> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given command text and changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("command") String command,
+                                    @JsonProperty("changes") List<JsonAdaptedJournalChange> changes) {
+        this.command = command;
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * Applies the changes of this record to {@code addressBook} and {@code timeslots}, in the order they were made.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the recorded changes.
+     */
+    public void applyTo(AddressBook addressBook, Timeslots timeslots) throws IllegalValueException {
+        for (JsonAdaptedJournalChange change : changes) {
+            change.applyTo(addressBook, timeslots);
+        }
+    }
+}
@@ -14,7 +14,6 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.person.Email;
-import seedu.address.model.person.Examination;
 import seedu.address.model.person.ExerciseTracker;
 import seedu.address.model.person.GithubUsername;
 import seedu.address.model.person.GradeMap;
@@ -102,16 +101,7 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
         githubUsername = source.getGithubUsername().value;
         labAttendanceList = source.getLabAttendanceList().toString();
-        gradeMap.putAll(
-                source.getGradeMap()
-                        .getGradeableHashMap()
-                        .entrySet()
-                        .stream()
-                        .collect(Collectors.toMap(
-                                Map.Entry::getKey,
-                                entry -> new JsonAdaptedExamination((Examination) entry.getValue())
-                        ))
-        );
+        gradeMap.putAll(new JsonAdaptedGradeMap(source.getGradeMap()).getAssessments());
     }
 
     /**
@@ -131,14 +121,7 @@ class JsonAdaptedPerson {
                 exerciseStatusList.add(ParserUtil.parseStatus(stat));
             }
         }
-        final GradeMap gradeMapModel = new GradeMap();
-        for (Map.Entry<String, JsonAdaptedExamination> entry : gradeMap.entrySet()) {
-            String key = entry.getKey();
-            JsonAdaptedExamination adaptedExam = entry.getValue();
-
-            Examination exam = adaptedExam.toModelType();
-            gradeMapModel.putExam(key, exam);
-        }
+        final GradeMap gradeMapModel = new JsonAdaptedGradeMap(gradeMap).toModelType();
 
         if (studentId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into the persons of an {@code AddressBook}, in batches.
+ *
+ * The persons of a batch are converted in chunks on the common fork-join pool, as validating every field of a
+ * person is the bulk of the work of loading an address book. They are then added in their original order.
+ * Conversion does not stop at the first invalid person: every problem is collected, so that
+ * {@link #toAddressBook()} can report all of them at once.
+ */
+class JsonAdaptedPersonConverter {
+
+    public static final String MESSAGE_PERSON_ERROR_FORMAT = "Person %d: %s";
+    public static final String MESSAGE_MULTIPLE_ERRORS_FORMAT = "%d problems found in the persons list:\n%s";
+
+    /** Number of persons converted by each task. */
+    static final int CHUNK_SIZE = 256;
+
+    private final AddressBook addressBook;
+    private final List<String> errorMessages = new ArrayList<>();
+    private IllegalValueException firstError;
+    private int convertedCount;
+
+    /**
+     * Creates a converter that adds the persons it converts to {@code addressBook}.
+     */
+    JsonAdaptedPersonConverter(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Converts {@code adaptedPersons} and adds the valid ones that are not duplicates to the address book.
+     */
+    void convert(List<JsonAdaptedPerson> adaptedPersons) {
+        int size = adaptedPersons.size();
+        Person[] persons = new Person[size];
+        IllegalValueException[] errors = new IllegalValueException[size];
+
+        IntStream chunks = IntStream.range(0, (size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        if (size > CHUNK_SIZE) {
+            chunks = chunks.parallel();
+        }
+        chunks.forEach(chunk -> {
+            int end = Math.min(size, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                try {
+                    persons[i] = adaptedPersons.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    errors[i] = ive;
+                }
+            }
+        });
+
+        for (int i = 0; i < size; i++) {
+            if (errors[i] == null && addressBook.hasPerson(persons[i])) {
+                errors[i] = new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            if (errors[i] != null) {
+                addError(convertedCount + i + 1, errors[i]);
+            } else {
+                addressBook.addPerson(persons[i]);
+            }
+        }
+        convertedCount += size;
+    }
+
+    /**
+     * Returns the address book with every person converted so far.
+     *
+     * @throws IllegalValueException if any person was invalid or a duplicate. If there was more than one such
+     *     person, the message lists all of them.
+     */
+    AddressBook toAddressBook() throws IllegalValueException {
+        if (errorMessages.size() == 1) {
+            throw firstError;
+        }
+        if (!errorMessages.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_MULTIPLE_ERRORS_FORMAT, errorMessages.size(),
+                    String.join("\n", errorMessages)), firstError);
+        }
+        return addressBook;
+    }
+
+    private void addError(int position, IllegalValueException error) {
+        if (firstError == null) {
+            firstError = error;
+        }
+        errorMessages.add(String.format(MESSAGE_PERSON_ERROR_FORMAT, position, error.getMessage()));
+    }
+}
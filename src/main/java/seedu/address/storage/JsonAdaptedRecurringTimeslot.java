@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.timeslot.RecurringTimeslot;
+import seedu.address.model.timeslot.Timeslot;
+
+/**
+ * Jackson-friendly version of {@link RecurringTimeslot}.
+ * The rule is stored as a single record, however many weeks it covers.
+ */
+class JsonAdaptedRecurringTimeslot {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Recurring timeslot's %s field is missing!";
+
+    private final JsonAdaptedTimeslot first;
+    private final Integer weeks;
+    private final List<String> exceptions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedRecurringTimeslot} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedRecurringTimeslot(@JsonProperty("first") JsonAdaptedTimeslot first,
+                                        @JsonProperty("weeks") Integer weeks,
+                                        @JsonProperty("exceptions") List<String> exceptions) {
+        this.first = first;
+        this.weeks = weeks;
+        if (exceptions != null) {
+            this.exceptions.addAll(exceptions);
+        }
+    }
+
+    /**
+     * Converts a given {@code RecurringTimeslot} into this class for Jackson use.
+     */
+    public JsonAdaptedRecurringTimeslot(RecurringTimeslot source) {
+        this.first = new JsonAdaptedTimeslot(source.getFirstOccurrence());
+        this.weeks = source.getWeekCount();
+        source.getExceptions().forEach(date -> exceptions.add(date.toString()));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted recurring timeslot object into the model's {@code RecurringTimeslot}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted recurring timeslot.
+     */
+    public RecurringTimeslot toModelType() throws IllegalValueException {
+        if (first == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "first"));
+        }
+        if (weeks == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "weeks"));
+        }
+        Timeslot firstOccurrence = first.toModelType();
+        try {
+            List<LocalDate> exceptionDates = new ArrayList<>();
+            for (String exception : exceptions) {
+                exceptionDates.add(LocalDate.parse(exception));
+            }
+            return new RecurringTimeslot(firstOccurrence, weeks, exceptionDates);
+        } catch (DateTimeException | IllegalArgumentException ex) {
+            throw new IllegalValueException(ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Timeslots;
+import seedu.address.model.Week;
+import seedu.address.model.person.Person;
+import seedu.address.model.timeslot.RecurringTimeslot;
+import seedu.address.model.timeslot.Timeslot;
+
+/**
+ * A journal stored on the hard disk as a file of JSON records, one record per line.
+ * Archived records are kept in a second file next to it until they are cleared.
+ * Methods are synchronized as archived records are cleared by the background thread that saves snapshots.
+ */
+public class JsonJournalStorage implements JournalStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournalStorage.class);
+
+    private final Path filePath;
+    private final Path archiveFilePath;
+    private final List<JsonAdaptedJournalChange> pendingChanges = new ArrayList<>();
+    private int journalSize;
+    private long archiveGeneration;
+
+    /**
+     * Creates a {@code JsonJournalStorage} that keeps its records in {@code filePath}.
+     */
+    public JsonJournalStorage(Path filePath) {
+        this.filePath = filePath;
+        this.archiveFilePath = filePath.resolveSibling(filePath.getFileName() + ".archive");
+    }
+
+    @Override
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void personAdded(int index, Person person) {
+        pendingChanges.add(JsonAdaptedJournalChange.personAdded(index, person));
+    }
+
+    @Override
+    public void personRemoved(Person person) {
+        pendingChanges.add(JsonAdaptedJournalChange.personRemoved(person));
+    }
+
+    @Override
+    public void personReplaced(Person target, Person editedPerson) {
+        pendingChanges.add(JsonAdaptedJournalChange.personReplaced(target, editedPerson));
+    }
+
+    @Override
+    public void personsReordered(List<Person> persons) {
+        pendingChanges.add(JsonAdaptedJournalChange.personsReordered(persons));
+    }
+
+    @Override
+    public void personsReset(List<Person> persons) {
+        pendingChanges.add(JsonAdaptedJournalChange.personsReset(persons));
+    }
+
+    @Override
+    public void weekChanged(Week week) {
+        pendingChanges.add(JsonAdaptedJournalChange.weekChanged(week));
+    }
+
+    @Override
+    public void timeslotAdded(Timeslot timeslot) {
+        pendingChanges.add(JsonAdaptedJournalChange.timeslotAdded(timeslot));
+    }
+
+    @Override
+    public void timeslotRemoved(Timeslot timeslot) {
+        pendingChanges.add(JsonAdaptedJournalChange.timeslotRemoved(timeslot));
+    }
+
+    @Override
+    public void timeslotsReset(List<Timeslot> timeslots) {
+        pendingChanges.add(JsonAdaptedJournalChange.timeslotsReset(timeslots));
+    }
+
+    @Override
+    public void recurringTimeslotAdded(RecurringTimeslot recurringTimeslot) {
+        pendingChanges.add(JsonAdaptedJournalChange.recurringTimeslotAdded(recurringTimeslot));
+    }
+
+    @Override
+    public void recurringTimeslotRemoved(RecurringTimeslot recurringTimeslot) {
+        pendingChanges.add(JsonAdaptedJournalChange.recurringTimeslotRemoved(recurringTimeslot));
+    }
+
+    @Override
+    public void recurringTimeslotsReset(List<RecurringTimeslot> recurringTimeslots) {
+        pendingChanges.add(JsonAdaptedJournalChange.recurringTimeslotsReset(recurringTimeslots));
+    }
+
+    @Override
+    public synchronized void commitJournal(String commandText) throws IOException {
+        requireNonNull(commandText);
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        String line = JsonUtil.toSingleLineJsonString(new JsonAdaptedJournalRecord(commandText, pendingChanges));
+        ByteBuffer buffer = ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8));
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            long sizeBeforeWrite = channel.size();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                // drop the partly written record; its changes stay pending and are retried with the next commit
+                channel.truncate(sizeBeforeWrite);
+                throw e;
+            }
+        }
+
+        pendingChanges.clear();
+        journalSize++;
+    }
+
+    @Override
+    public synchronized int getJournalSize() {
+        return journalSize;
+    }
+
+    @Override
+    public synchronized long archiveJournal() throws IOException {
+        if (Files.exists(filePath)) {
+            if (Files.exists(archiveFilePath)) {
+                // an earlier snapshot has not been saved yet, so its records must be kept as well
+                try (FileChannel archive = FileChannel.open(archiveFilePath, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+                    while (buffer.hasRemaining()) {
+                        archive.write(buffer);
+                    }
+                    archive.force(false);
+                }
+                Files.delete(filePath);
+            } else {
+                FileUtil.replaceFile(filePath, archiveFilePath);
+            }
+        }
+
+        pendingChanges.clear();
+        journalSize = 0;
+        return ++archiveGeneration;
+    }
+
+    @Override
+    public synchronized void clearArchivedJournal(long generation) throws IOException {
+        if (generation == archiveGeneration) {
+            Files.deleteIfExists(archiveFilePath);
+        }
+    }
+
+    @Override
+    public synchronized int replayJournal(AddressBook addressBook, Timeslots timeslots) throws DataLoadingException {
+        requireNonNull(addressBook);
+        requireNonNull(timeslots);
+        int replayed = replayFile(archiveFilePath, addressBook, timeslots);
+        journalSize = replayFile(filePath, addressBook, timeslots);
+        return replayed + journalSize;
+    }
+
+    @Override
+    public synchronized void clearJournal() throws IOException {
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(archiveFilePath);
+        pendingChanges.clear();
+        journalSize = 0;
+    }
+
+    private int replayFile(Path file, AddressBook addressBook, Timeslots timeslots) throws DataLoadingException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonAdaptedJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                } catch (IOException e) {
+                    logger.warning("Skipping unreadable journal record in " + file + ": " + e.getMessage());
+                    continue;
+                }
+                record.applyTo(addressBook, timeslots);
+                replayed++;
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + file + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        return replayed;
+    }
+}
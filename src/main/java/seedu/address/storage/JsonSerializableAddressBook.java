@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,12 +8,15 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.Week;
-import seedu.address.model.person.LabList;
 import seedu.address.model.person.Person;
 
 /**
@@ -23,6 +27,11 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    private static final String FIELD_PERSONS = "persons";
+    private static final String FIELD_CURRENT_WEEK = "currentWeek";
+    /** Number of persons read from a file before they are converted together. */
+    private static final int READ_BATCH_SIZE = 16 * JsonAdaptedPersonConverter.CHUNK_SIZE;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     @JsonProperty("currentWeek")
     private final int currentWeek;
@@ -50,20 +59,67 @@ class JsonSerializableAddressBook {
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, listing every invalid person.
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         addressBook.setCurrentWeek(new Week(currentWeek));
-        LabList.setCurrentWeek(currentWeek);
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter(addressBook);
+        converter.convert(persons);
+        return converter.toAddressBook();
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, one person at a time.
+     * The result can be read back in batches with {@link #readFrom(JsonParser)}.
+     */
+    public static void writeTo(JsonGenerator generator, ReadOnlyAddressBook source) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField(FIELD_CURRENT_WEEK, source.getCurrentWeek().getWeekNumber());
+        generator.writeArrayFieldStart(FIELD_PERSONS);
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book from {@code parser}, converting persons in batches as they are read instead of reading
+     * the whole file into a {@code JsonSerializableAddressBook} first.
+     * The current week may come before or after the persons, and is week 0 if it is missing.
+     *
+     * @throws IOException if the content is not a valid JSON object.
+     * @throws IllegalValueException if there were any data constraints violated, listing every invalid person.
+     */
+    public static AddressBook readFrom(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        JsonAdaptedPersonConverter converter = new JsonAdaptedPersonConverter(addressBook);
+        List<JsonAdaptedPerson> unconvertedPersons = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (FIELD_CURRENT_WEEK.equals(fieldName)) {
+                addressBook.setCurrentWeek(new Week(valueToken == JsonToken.VALUE_NULL ? 0 : parser.getValueAsInt()));
+            } else if (FIELD_PERSONS.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    unconvertedPersons.add(parser.readValueAs(JsonAdaptedPerson.class));
+                    if (unconvertedPersons.size() >= READ_BATCH_SIZE) {
+                        converter.convert(unconvertedPersons);
+                        unconvertedPersons.clear();
+                    }
+                }
+            } else {
+                parser.skipChildren();
             }
-            addressBook.addPerson(person);
         }
-        return addressBook;
+
+        converter.convert(unconvertedPersons);
+        return converter.toAddressBook();
     }
 
 }
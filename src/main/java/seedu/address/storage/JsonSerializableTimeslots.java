@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyTimeslots;
 import seedu.address.model.Timeslots;
+import seedu.address.model.timeslot.RecurringTimeslot;
 import seedu.address.model.timeslot.Timeslot;
 
 /**
@@ -20,17 +21,25 @@ import seedu.address.model.timeslot.Timeslot;
 class JsonSerializableTimeslots {
 
     public static final String MESSAGE_DUPLICATE_TIMESLOT = "Timeslots list contains duplicate timeslot(s).";
+    public static final String MESSAGE_DUPLICATE_RECURRING_TIMESLOT =
+            "Recurring timeslots list contains duplicate recurring timeslot(s).";
 
     private final List<JsonAdaptedTimeslot> timeslots = new ArrayList<>();
+    private final List<JsonAdaptedRecurringTimeslot> recurringTimeslots = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableTimeslots} with the given timeslots.
+     * Constructs a {@code JsonSerializableTimeslots} with the given timeslots and recurring timeslots.
+     * Files written before recurring timeslots existed have no {@code recurringTimeslots}, which is read as none.
      */
     @JsonCreator
-    public JsonSerializableTimeslots(@JsonProperty("timeslots") List<JsonAdaptedTimeslot> timeslots) {
+    public JsonSerializableTimeslots(@JsonProperty("timeslots") List<JsonAdaptedTimeslot> timeslots,
+            @JsonProperty("recurringTimeslots") List<JsonAdaptedRecurringTimeslot> recurringTimeslots) {
         if (timeslots != null) {
             this.timeslots.addAll(timeslots);
         }
+        if (recurringTimeslots != null) {
+            this.recurringTimeslots.addAll(recurringTimeslots);
+        }
     }
 
     /**
@@ -42,6 +51,9 @@ class JsonSerializableTimeslots {
         timeslots.addAll(source.getTimeslotList().stream()
                 .map(JsonAdaptedTimeslot::new)
                 .collect(Collectors.toList()));
+        recurringTimeslots.addAll(source.getRecurringTimeslotList().stream()
+                .map(JsonAdaptedRecurringTimeslot::new)
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -58,6 +70,13 @@ class JsonSerializableTimeslots {
             }
             modelTimeslots.addTimeslot(timeslot);
         }
+        for (JsonAdaptedRecurringTimeslot jsonAdaptedRecurringTimeslot : recurringTimeslots) {
+            RecurringTimeslot recurringTimeslot = jsonAdaptedRecurringTimeslot.toModelType();
+            if (modelTimeslots.hasRecurringTimeslot(recurringTimeslot)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_RECURRING_TIMESLOT);
+            }
+            modelTimeslots.addRecurringTimeslot(recurringTimeslot);
+        }
         return modelTimeslots;
     }
 
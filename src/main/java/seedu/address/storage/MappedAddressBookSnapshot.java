@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.Week;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+
+/**
+ * A read-only view of a binary address book snapshot that is mapped into memory instead of read.
+ *
+ * Opening a snapshot only walks the record lengths to find where each person starts. A person is decoded the first
+ * time it is accessed, through {@link #getPersonList()} or {@link #findPerson(StudentId)}, and kept from then on,
+ * so opening even a very large archive is quick and memory grows only with the persons that are actually viewed.
+ * The index of student IDs is likewise only built on the first lookup.
+ */
+public class MappedAddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final MappedByteBuffer buffer;
+    private final Week currentWeek;
+    private final int[] recordOffsets;
+    private final Person[] hydratedPersons;
+    private final ObservableList<Person> persons;
+    private Map<String, Integer> positionsByStudentId;
+    private int hydratedCount;
+
+    private MappedAddressBookSnapshot(MappedByteBuffer buffer, int currentWeek, int[] recordOffsets) {
+        this.buffer = buffer;
+        this.currentWeek = new Week(currentWeek);
+        this.recordOffsets = recordOffsets;
+        this.hydratedPersons = new Person[recordOffsets.length];
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(new LazyPersonList()));
+    }
+
+    /**
+     * Maps the snapshot at {@code filePath} into memory and indexes its records.
+     *
+     * @throws DataLoadingException if the file could not be mapped or is not a valid snapshot.
+     */
+    public static MappedAddressBookSnapshot open(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        try {
+            int[] header = BinarySnapshotFormat.readHeader(buffer);
+            int[] recordOffsets = new int[header[1]];
+            int position = BinarySnapshotFormat.HEADER_SIZE;
+            for (int i = 0; i < recordOffsets.length; i++) {
+                recordOffsets[i] = position;
+                position = BinarySnapshotFormat.skipPerson(buffer, position);
+            }
+            return new MappedAddressBookSnapshot(buffer, header[0], recordOffsets);
+        } catch (IllegalValueException ive) {
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the persons in display order. Each person is decoded when it is first accessed.
+     *
+     * @throws IllegalStateException when accessing a person whose record holds invalid values.
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public Week getCurrentWeek() {
+        return currentWeek;
+    }
+
+    @Override
+    public long getVersion() {
+        return 0;
+    }
+
+    /**
+     * Returns the person with the given student ID, decoding only that person.
+     *
+     * @throws IllegalStateException if the record of that person holds invalid values.
+     */
+    public Optional<Person> findPerson(StudentId studentId) {
+        requireNonNull(studentId);
+        Integer position = getPositionsByStudentId().get(studentId.value);
+        return position == null ? Optional.empty() : Optional.of(getPerson(position));
+    }
+
+    /**
+     * Returns the number of persons that have been decoded so far.
+     */
+    public synchronized int getHydratedCount() {
+        return hydratedCount;
+    }
+
+    private synchronized Person getPerson(int position) {
+        Person person = hydratedPersons[position];
+        if (person != null) {
+            return person;
+        }
+
+        try {
+            person = BinarySnapshotFormat.readPerson(buffer.duplicate().position(recordOffsets[position]));
+        } catch (IllegalValueException ive) {
+            throw new IllegalStateException("Person " + (position + 1) + " of the snapshot is corrupt: "
+                    + ive.getMessage(), ive);
+        }
+        hydratedPersons[position] = person;
+        hydratedCount++;
+        return person;
+    }
+
+    private synchronized Map<String, Integer> getPositionsByStudentId() {
+        if (positionsByStudentId == null) {
+            positionsByStudentId = new HashMap<>(recordOffsets.length * 2);
+            for (int i = 0; i < recordOffsets.length; i++) {
+                try {
+                    positionsByStudentId.put(BinarySnapshotFormat.readStudentId(buffer, recordOffsets[i]), i);
+                } catch (IllegalValueException ive) {
+                    throw new IllegalStateException("Person " + (i + 1) + " of the snapshot is corrupt: "
+                            + ive.getMessage(), ive);
+                }
+            }
+        }
+        return positionsByStudentId;
+    }
+
+    /**
+     * The persons of the snapshot, decoded as they are accessed.
+     */
+    private class LazyPersonList extends AbstractList<Person> {
+        @Override
+        public Person get(int index) {
+            return getPerson(index);
+        }
+
+        @Override
+        public int size() {
+            return recordOffsets.length;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyTimeslots;
+
+/**
+ * Saves snapshots of the address book and timeslots on a single background thread, so that slow disks do not
+ * hold up the UI.
+ *
+ * Snapshots submitted while an earlier one is still waiting to be saved replace it, so a burst of commands only
+ * results in one write of each file. A snapshot that fails to save is kept and retried with the next submission
+ * or {@link #flush()}, and the failure is reported to the error handler.
+ */
+public class PersistenceWorker {
+
+    /**
+     * An action to run once a snapshot has been saved.
+     */
+    @FunctionalInterface
+    public interface SaveCallback {
+        void onSaved() throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(PersistenceWorker.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final TimeslotsStorage timeslotsStorage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "persistence-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // guarded by this
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyTimeslots pendingTimeslots;
+    private final List<SaveCallback> pendingCallbacks = new ArrayList<>();
+    private boolean isWriteScheduled;
+
+    private volatile Consumer<String> errorHandler = message -> logger.fine("No handler for save error");
+
+    /**
+     * Creates a {@code PersistenceWorker} that saves to {@code addressBookStorage} and {@code timeslotsStorage}.
+     */
+    public PersistenceWorker(AddressBookStorage addressBookStorage, TimeslotsStorage timeslotsStorage) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(timeslotsStorage);
+        this.addressBookStorage = addressBookStorage;
+        this.timeslotsStorage = timeslotsStorage;
+    }
+
+    /**
+     * Sets the handler that is given a message whenever a snapshot fails to save.
+     * The handler is called on the background thread.
+     */
+    public void setErrorHandler(Consumer<String> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} and {@code timeslots} to be saved, then {@code onSaved} to be run.
+     * Either snapshot may be null if it has not changed. Both must not be modified after they are submitted.
+     */
+    public synchronized void submit(ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots,
+            SaveCallback onSaved) {
+        requireNonNull(onSaved);
+        if (addressBook != null) {
+            pendingAddressBook = addressBook;
+        }
+        if (timeslots != null) {
+            pendingTimeslots = timeslots;
+        }
+        pendingCallbacks.add(onSaved);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            executor.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Blocks until every snapshot submitted so far has been saved or has failed to save.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (!isWriteScheduled && (pendingAddressBook != null || pendingTimeslots != null)) {
+                isWriteScheduled = true;
+                executor.execute(this::writePending);
+            }
+        }
+        try {
+            executor.submit(() -> null).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to wait for pending saves: " + StringUtil.getDetails(e));
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        ReadOnlyTimeslots timeslots;
+        List<SaveCallback> callbacks;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            timeslots = pendingTimeslots;
+            callbacks = new ArrayList<>(pendingCallbacks);
+            pendingAddressBook = null;
+            pendingTimeslots = null;
+            pendingCallbacks.clear();
+            isWriteScheduled = false;
+        }
+
+        try {
+            if (addressBook != null) {
+                addressBookStorage.saveAddressBook(addressBook);
+                addressBook = null;
+            }
+            if (timeslots != null) {
+                timeslotsStorage.saveTimeslots(timeslots);
+                timeslots = null;
+            }
+            for (SaveCallback callback : callbacks) {
+                callback.onSaved();
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save data in the background: " + StringUtil.getDetails(e));
+            requeue(addressBook, timeslots, callbacks);
+            errorHandler.accept(e.getMessage());
+        }
+    }
+
+    /**
+     * Puts back the snapshots that failed to save, unless newer ones have been submitted since.
+     */
+    private synchronized void requeue(ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots,
+            List<SaveCallback> callbacks) {
+        if (pendingAddressBook == null) {
+            pendingAddressBook = addressBook;
+        }
+        if (pendingTimeslots == null) {
+            pendingTimeslots = timeslots;
+        }
+        pendingCallbacks.addAll(0, callbacks);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -36,4 +37,41 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, Timeslots
     @Override
     void saveTimeslots(ReadOnlyTimeslots timeslots) throws IOException;
 
+    /**
+     * Returns the journal that changes to the address book and timeslots should be reported to, if this storage
+     * keeps one.
+     */
+    Optional<JournalStorage> getJournalStorage();
+
+    /**
+     * Persists the changes made by the command {@code commandText}, which left the data as {@code addressBook}
+     * and {@code timeslots}. The changes are appended to the journal if there is one, otherwise both are saved
+     * in full.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void saveCommandResult(String commandText, ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots)
+            throws IOException;
+
+    /**
+     * Saves {@code addressBook} and {@code timeslots} in full and empties the journal, if there is one.
+     * Either is skipped if its modification version is unchanged since it was last saved by this method.
+     * If there is a journal, the data is saved in the background and the journal is only emptied of the records
+     * it held once the save succeeds; use {@link #flush()} to wait for it.
+     *
+     * @throws IOException if there was any problem writing to the files, or moving the journal aside.
+     */
+    void checkpoint(ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots) throws IOException;
+
+    /**
+     * Blocks until every save started in the background has finished.
+     */
+    void flush();
+
+    /**
+     * Sets the handler that is given a message whenever a save in the background fails.
+     * The handler is called on the background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> errorHandler);
+
 }
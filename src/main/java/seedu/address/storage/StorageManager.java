@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -10,6 +11,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTimeslots;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.Timeslots;
 import seedu.address.model.UserPrefs;
 
 /**
@@ -17,19 +19,43 @@ import seedu.address.model.UserPrefs;
  */
 public class StorageManager implements Storage {
 
+    /** Number of journal records after which the data is saved in full and the journal emptied. */
+    public static final int JOURNAL_CHECKPOINT_INTERVAL = 50;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private TimeslotsStorage timeslotStorage;
+    private JournalStorage journalStorage;
+    private PersistenceWorker persistenceWorker;
+    private ReadOnlyAddressBook lastSavedAddressBook;
+    private long lastSavedAddressBookVersion;
+    private ReadOnlyTimeslots lastSavedTimeslots;
+    private long lastSavedTimeslotsVersion;
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that saves the data in full after every command.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
                           TimeslotsStorage timeslotStorage) {
+        this(addressBookStorage, userPrefsStorage, timeslotStorage, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that journals the changes made by each command to {@code journalStorage}
+     * and only saves the data in full every {@value #JOURNAL_CHECKPOINT_INTERVAL} journal records.
+     * Full saves are done in the background, as the journal keeps the changes safe until they are written.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          TimeslotsStorage timeslotStorage, JournalStorage journalStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.timeslotStorage = timeslotStorage;
+        this.journalStorage = journalStorage;
+        if (journalStorage != null) {
+            this.persistenceWorker = new PersistenceWorker(addressBookStorage, timeslotStorage);
+        }
     }
 
     // ================ UserPrefs methods ==============================
@@ -108,4 +134,71 @@ public class StorageManager implements Storage {
         timeslotStorage.saveTimeslots(timeslots, filePath);
     }
 
+    // ================ Journal methods ==============================
+
+    @Override
+    public Optional<JournalStorage> getJournalStorage() {
+        return Optional.ofNullable(journalStorage);
+    }
+
+    @Override
+    public void saveCommandResult(String commandText, ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots)
+            throws IOException {
+        if (journalStorage == null) {
+            checkpoint(addressBook, timeslots);
+            return;
+        }
+
+        journalStorage.commitJournal(commandText);
+        if (journalStorage.getJournalSize() >= JOURNAL_CHECKPOINT_INTERVAL) {
+            checkpoint(addressBook, timeslots);
+        }
+    }
+
+    @Override
+    public void checkpoint(ReadOnlyAddressBook addressBook, ReadOnlyTimeslots timeslots) throws IOException {
+        boolean isAddressBookChanged = addressBook != lastSavedAddressBook
+                || addressBook.getVersion() != lastSavedAddressBookVersion;
+        boolean isTimeslotsChanged = timeslots != lastSavedTimeslots
+                || timeslots.getVersion() != lastSavedTimeslotsVersion;
+
+        if (persistenceWorker == null) {
+            if (isAddressBookChanged) {
+                saveAddressBook(addressBook);
+            }
+            if (isTimeslotsChanged) {
+                saveTimeslots(timeslots);
+            }
+        } else {
+            // the archived records are only deleted once the snapshots have been written
+            ReadOnlyAddressBook addressBookSnapshot = isAddressBookChanged
+                    ? new AddressBookSnapshot(addressBook)
+                    : null;
+            ReadOnlyTimeslots timeslotsSnapshot = isTimeslotsChanged ? new Timeslots(timeslots) : null;
+            logger.fine("Archiving journal: " + journalStorage.getJournalFilePath());
+            long generation = journalStorage.archiveJournal();
+            persistenceWorker.submit(addressBookSnapshot, timeslotsSnapshot,
+                    () -> journalStorage.clearArchivedJournal(generation));
+        }
+
+        lastSavedAddressBook = addressBook;
+        lastSavedAddressBookVersion = addressBook.getVersion();
+        lastSavedTimeslots = timeslots;
+        lastSavedTimeslotsVersion = timeslots.getVersion();
+    }
+
+    @Override
+    public void flush() {
+        if (persistenceWorker != null) {
+            persistenceWorker.flush();
+        }
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> errorHandler) {
+        if (persistenceWorker != null) {
+            persistenceWorker.setErrorHandler(errorHandler);
+        }
+    }
+
 }
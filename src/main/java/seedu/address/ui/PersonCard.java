@@ -1,26 +1,31 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.Week;
+import seedu.address.model.person.ExamKind;
+import seedu.address.model.person.ExerciseTracker;
 import seedu.address.model.person.GradeMap;
-import seedu.address.model.person.Gradeable;
-import seedu.address.model.person.LabAttendance;
+import seedu.address.model.person.LabAttendanceList;
+import seedu.address.model.person.LabList;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Status;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be given another person to display, so list cells can keep their card instead of loading a new one.
  */
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
+    private static final String STATUS_LABEL_CLASS = "status-label";
+    private static final ExamKind[] EXAM_KINDS = ExamKind.values();
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -30,8 +35,6 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -55,61 +58,150 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane grades;
 
+    // The status labels are created once and only have their status style class swapped when rebound.
+    private final Label[] exerciseLabels = new Label[ExerciseTracker.NUMBER_OF_EXERCISES];
+    private final Label[] labLabels = new Label[LabList.NUMBER_OF_LABS];
+    private final Label[] gradeLabels = new Label[EXAM_KINDS.length];
+    private final String[] exerciseClasses = new String[exerciseLabels.length];
+    private final String[] labClasses = new String[labLabels.length];
+    private final String[] gradeClasses = new String[gradeLabels.length];
+
+    private Person person;
+    private Week currentWeek = new Week(Week.MIN_WEEK);
+
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates an empty {@code PersonCard}, which is given a person to display with
+     * {@link #setPerson(Person, int, Week)}.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
+        for (int i = 0; i < exerciseLabels.length; i++) {
+            exerciseLabels[i] = createStatusLabel("EX" + i, exerciseStatus);
+        }
+        for (int i = 0; i < labLabels.length; i++) {
+            labLabels[i] = createStatusLabel("L" + (i + 1), labAttendance);
+        }
+        for (int i = 0; i < gradeLabels.length; i++) {
+            gradeLabels[i] = createStatusLabel(EXAM_KINDS[i].getExamName().toUpperCase(), grades);
+        }
+    }
+
+    /**
+     * Creates a {@code PersonCode} with the given {@code Person} and index to display, with lab statuses as of
+     * {@code currentWeek}.
+     */
+    public PersonCard(Person person, int displayedIndex, Week currentWeek) {
+        this();
+        setPerson(person, displayedIndex, currentWeek);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} at {@code displayedIndex} in this card, with lab statuses as of {@code currentWeek},
+     * reusing its nodes. Only the texts and status style classes that differ from those shown before are changed.
+     */
+    public void setPerson(Person person, int displayedIndex, Week currentWeek) {
         this.person = person;
+        this.currentWeek = currentWeek;
         id.setText(displayedIndex + ". ");
         studentId.setText(person.getStudentId().value);
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         email.setText(person.getEmail().value);
-        List<Status> exerciseStatuses = person.getExerciseTracker().getStatuses();
-        for (int i = 0; i < exerciseStatuses.size(); i++) {
-            Label exerciseLabel = new Label("EX" + i);
-            String statusClass = switch (exerciseStatuses.get(i)) {
+        githubUsername.setText(person.getGithubUsername().value);
+        setTags(person);
+
+        ExerciseTracker exerciseTracker = person.getExerciseTracker();
+        for (int i = 0; i < exerciseLabels.length; i++) {
+            String statusClass = switch (exerciseTracker.statusAt(i)) {
             case NOT_DONE -> "exercise-not-done";
             case DONE -> "exercise-done";
             case OVERDUE -> "exercise-overdue";
             };
-            exerciseLabel.getStyleClass().addAll("status-label", statusClass);
-            exerciseStatus.getChildren().add(exerciseLabel);
+            setStatusClass(exerciseLabels[i], exerciseClasses, i, statusClass);
         }
 
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        githubUsername.setText(person.getGithubUsername().value);
-        LabAttendance[] labs = person.getLabAttendanceList().getLabs();
+        showLabStatuses();
 
-        for (LabAttendance lab : labs) {
-            Label labLabel = new Label("L" + lab.getLabNumber());
-            String statusClass = switch (lab.getStatus()) {
+        GradeMap gradeMap = person.getGradeMap();
+        for (int i = 0; i < gradeLabels.length; i++) {
+            String statusClass;
+            if (!gradeMap.isGraded(EXAM_KINDS[i])) {
+                statusClass = "exam-not-graded";
+            } else if (gradeMap.getScore(EXAM_KINDS[i]) >= 50.0) {
+                statusClass = "exam-pass";
+            } else {
+                statusClass = "exam-fail";
+            }
+            setStatusClass(gradeLabels[i], gradeClasses, i, statusClass);
+        }
+    }
+
+    /**
+     * Updates the lab statuses shown to those as of {@code currentWeek}, leaving the rest of the card as it is.
+     */
+    public void setCurrentWeek(Week currentWeek) {
+        this.currentWeek = currentWeek;
+        if (person != null) {
+            showLabStatuses();
+        }
+    }
+
+    private void showLabStatuses() {
+        LabAttendanceList labs = person.getLabAttendanceList();
+        for (int i = 0; i < labLabels.length; i++) {
+            String statusClass = switch (labs.statusAt(i, currentWeek)) {
             case "Y" -> "lab-attended";
             case "A" -> "lab-absent";
             default -> "lab-not-attended"; // "N"
             };
-            labLabel.getStyleClass().addAll("status-label", statusClass);
-            labAttendance.getChildren().add(labLabel);
+            setStatusClass(labLabels[i], labClasses, i, statusClass);
         }
+    }
 
-        HashMap<String, Gradeable> gradeableMap = person.getGradeMap().getGradeableHashMap();
-        for (String examName : GradeMap.VALID_EXAM_NAMES) {
-            Gradeable exam = gradeableMap.get(examName);
-            Label gradeLabel = new Label(examName.toUpperCase());
-
-            double score = exam.getScore();
-            if (score == -1.0) {
-                gradeLabel.getStyleClass().addAll("status-label", "exam-not-graded");
-            } else if (score >= 50.0) {
-                gradeLabel.getStyleClass().addAll("status-label", "exam-pass");
+    /**
+     * Shows the tags of {@code person} in order, reusing the tag labels already in the card.
+     */
+    private void setTags(Person person) {
+        List<String> tagNames = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+        List<Node> tagLabels = tags.getChildren();
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.subList(tagNames.size(), tagLabels.size()).clear();
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagNames.get(i));
             } else {
-                gradeLabel.getStyleClass().addAll("status-label", "exam-fail");
+                tagLabels.add(new Label(tagNames.get(i)));
             }
+        }
+    }
 
-            grades.getChildren().add(gradeLabel);
+    private static Label createStatusLabel(String text, FlowPane parent) {
+        Label label = new Label(text);
+        label.getStyleClass().add(STATUS_LABEL_CLASS);
+        parent.getChildren().add(label);
+        return label;
+    }
+
+    /**
+     * Gives {@code label}, whose current status style class is {@code currentClasses[index]}, the status style class
+     * {@code statusClass} instead.
+     */
+    private static void setStatusClass(Label label, String[] currentClasses, int index, String statusClass) {
+        if (statusClass.equals(currentClasses[index])) {
+            return;
+        }
+        if (currentClasses[index] != null) {
+            label.getStyleClass().remove(currentClasses[index]);
         }
+        label.getStyleClass().add(statusClass);
+        currentClasses[index] = statusClass;
     }
 }
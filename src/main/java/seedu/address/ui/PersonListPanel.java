@@ -2,12 +2,14 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Week;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,19 +22,30 @@ public class PersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> personListView;
 
+    private final ObservableValue<Week> currentWeek;
+
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * The lab statuses on the cards are updated whenever {@code currentWeek} changes, as they depend on it.
      */
-    public PersonListPanel(ObservableList<Person> personList) {
+    public PersonListPanel(ObservableList<Person> personList, ObservableValue<Week> currentWeek) {
         super(FXML);
+        this.currentWeek = currentWeek;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
+        // Only the lab statuses of the cells in the list view now are updated; the persons are left as they are.
+        currentWeek.addListener((observable, oldWeek, newWeek) -> personListView.lookupAll(".list-cell").stream()
+                .filter(node -> node instanceof PersonListViewCell)
+                .forEach(node -> ((PersonListViewCell) node).showWeek(newWeek)));
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
      */
     class PersonListViewCell extends ListCell<Person> {
+        // Loaded on first use and rebound to each person the cell is reused for.
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +54,20 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard();
+                }
+                personCard.setPerson(person, getIndex() + 1, currentWeek.getValue());
+                setGraphic(personCard.getRoot());
+            }
+        }
+
+        /**
+         * Updates the lab statuses on this cell's card to those as of {@code week}, if the cell shows a person.
+         */
+        void showWeek(Week week) {
+            if (personCard != null && !isEmpty()) {
+                personCard.setCurrentWeek(week);
             }
         }
     }
@@ -13,9 +13,12 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String SAVE_ERROR_FORMAT = "Could not save data, changes are kept in the journal: %s";
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label saveErrorStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +28,11 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows that saving data in the background failed with {@code message}.
+     */
+    public void showSaveError(String message) {
+        saveErrorStatus.setText(String.format(SAVE_ERROR_FORMAT, message));
+    }
+
 }
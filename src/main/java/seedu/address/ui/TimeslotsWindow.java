@@ -1,348 +1,396 @@
 package seedu.address.ui;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
-import javafx.beans.binding.Bindings;
-import javafx.beans.binding.NumberBinding;
-import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.SimpleDoubleProperty;
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.geometry.VPos;
 import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.control.ScrollPane;
 import javafx.scene.control.Tooltip;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
-import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Line;
-import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
+import seedu.address.model.ReadOnlyTimeslots;
+import seedu.address.model.timeslot.RecurringTimeslot;
+import seedu.address.model.timeslot.Timeslot;
 
 /**
- * Timetable-style window to display merged timeslot ranges as horizontal blocks.
+ * Timetable-style window to display blocked timeslots as horizontal blocks, one week at a time.
  * The timeline spans from START_HOUR (inclusive) to END_HOUR (exclusive).
  *
- * Each LocalDateTime[] in mergedRanges is interpreted as {start, end}.
+ * There is only ever one window, which is reused every time it is shown. It stays bound to the timeslots it was
+ * shown for and redraws when they change, but only if the change touches the week on screen. For each week shown,
+ * the blocked periods (including the occurrences of recurring timeslots) are asked of the timeslots and split by
+ * day once, then painted onto a single Canvas, so resizing the window only repaints.
  */
 public class TimeslotsWindow {
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("MM/dd");
+    private static final DateTimeFormatter WEEK_FORMATTER = DateTimeFormatter.ofPattern("d MMM uuuu");
     private static final int START_HOUR = 8;
     private static final int END_HOUR = 24;
     private static final int HOURS = END_HOUR - START_HOUR;
-    private static final double PIXELS_PER_MINUTE = 1.0; // 60 minutes => 60px per hour (adjust if needed)
-    private static final double TIMELINE_WIDTH = HOURS * 60 * PIXELS_PER_MINUTE; // total px width for timeline
+    private static final int DAYS = 7;
+    private static final double TIMELINE_WIDTH = HOURS * 60; // preferred width: one pixel per minute
     private static final double ROW_HEIGHT = 64;
-
-    // New shared layout constants to ensure exact alignment between header and rows
+    private static final double ROW_GAP = 6; // vertical gap between day rows
+    private static final double HEADER_HEIGHT = 24; // height of the hours header
+    private static final double HEADER_GAP = 8; // gap between the hours header and the first day row
     private static final double DAY_LABEL_WIDTH = 90; // left column width used by day labels
-    private static final double ROW_SPACING = 8; // spacing used between day label and timeline
-    private static final double BODY_PADDING = 8; // must match VBox body padding used in renderWeek
-    private static final double TOP_CONTAINER_SPACING = 24; // increased vertical gap between header and hours
-
-    // Keep a reference to the most-recently created Stage so callers (e.g. MainWindow) can hide it.
-    private static Stage currentStage = null;
-
-    /**
-     * Shows the merged timeslot ranges in a new window laid out as a timetable.
-     * Each entry in {@code mergedRanges} should be a LocalDateTime[2] array: [start, end].
-     */
-    public static void showMerged(List<LocalDateTime[]> mergedRanges) {
-        Stage stage = new Stage();
-        // remember the stage so clients can hide it
-        currentStage = stage;
+    private static final double ROW_SPACING = 8; // spacing between day label and timeline
+    private static final double PADDING = 8; // padding around the painted timetable
+    private static final double BLOCK_INSET = 8; // vertical inset of a block within its row
+
+    private static TimeslotsWindow instance;
+
+    private final Stage stage = new Stage();
+    private final Canvas canvas = new Canvas();
+    private final Label weekLabel = new Label();
+    private final Tooltip tooltip = new Tooltip();
+    private final ListChangeListener<Timeslot> timeslotListener = this::handleTimeslotsChanged;
+    private final ListChangeListener<RecurringTimeslot> recurringTimeslotListener =
+            this::handleRecurringTimeslotsChanged;
+    // the parts of the blocked periods of the week on screen, split at midnight, by day of the week
+    private final List<List<Timeslot>> blocksByDay = new ArrayList<>();
+
+    private ReadOnlyTimeslots timeslots;
+    private ObservableList<Timeslot> timeslotList;
+    private ObservableList<RecurringTimeslot> recurringTimeslotList;
+    private LocalDate weekStart = LocalDate.now().with(DayOfWeek.MONDAY);
+    private boolean isRefreshPending;
+    private boolean isTooltipInstalled;
+
+    private TimeslotsWindow() {
         stage.setTitle("Consultation Schedule");
         stage.initModality(Modality.NONE);
 
-        BorderPane root = new BorderPane();
-        root.setPadding(new Insets(10));
-
         Label header = new Label("Timetable");
         header.setStyle("-fx-font-size: 16px; -fx-font-weight: bold;");
-        BorderPane.setAlignment(header, Pos.CENTER);
+        weekLabel.setStyle("-fx-text-fill: #556070;");
 
         // Navigation controls
-        Button nextWeekBtn = new Button("Next Week");
         Button prevWeekBtn = new Button("Previous Week");
+        Button nextWeekBtn = new Button("Next Week");
+        prevWeekBtn.setOnAction(e -> showWeek(weekStart.minusWeeks(1)));
+        nextWeekBtn.setOnAction(e -> showWeek(weekStart.plusWeeks(1)));
 
-        // Determine initial week start: use earliest timeslot start (its Monday) if available,
-        // otherwise fallback to current week's Monday.
-        LocalDate[] weekStartRef = new LocalDate[1];
-        weekStartRef[0] = Optional.ofNullable(mergedRanges)
-                .filter(l -> !l.isEmpty())
-                .flatMap(l -> l.stream()
-                        .map(r -> r[0]) // start LocalDateTime
-                        .filter(Objects::nonNull)
-                        .map(LocalDateTime::toLocalDate)
-                        .min(LocalDate::compareTo)
-                )
-                .orElse(LocalDate.now())
-                .with(DayOfWeek.MONDAY);
-
-        // top row: header + spacer + navigation buttons
-        HBox topRow = new HBox();
+        // top row: header + week + spacer + navigation buttons
         Region spacer = new Region();
         HBox.setHgrow(spacer, Priority.ALWAYS);
+        HBox topRow = new HBox(ROW_SPACING, header, weekLabel, spacer, prevWeekBtn, nextWeekBtn);
         topRow.setAlignment(Pos.CENTER_LEFT);
-        topRow.setSpacing(ROW_SPACING);
-        topRow.getChildren().addAll(header, spacer, prevWeekBtn, nextWeekBtn);
-
-        // timeline width property shared by all timeline panes so they resize together
-        DoubleProperty timelineWidth = new SimpleDoubleProperty(TIMELINE_WIDTH);
-
-        // hours header (kept same as existing) - now takes timelineWidth
-        HBox hoursHeader = buildHoursHeader(timelineWidth);
-        // no padding here — buildHoursHeader now inserts a left placeholder matching the day label column
-        // so ticks align exactly with the timelines.
-
-        // render initial week
-        renderWeek(root, weekStartRef[0], mergedRanges, topRow, hoursHeader, timelineWidth);
+        topRow.setPadding(new Insets(0, 0, 16, 0));
+
+        // the canvas fills the space below the top row, and is repainted from the day buckets when resized
+        Pane canvasHolder = new Pane(canvas);
+        canvasHolder.setPrefSize(PADDING + DAY_LABEL_WIDTH + ROW_SPACING + TIMELINE_WIDTH + PADDING,
+                getRowY(DAYS) + PADDING);
+        canvas.widthProperty().bind(canvasHolder.widthProperty());
+        canvas.heightProperty().bind(canvasHolder.heightProperty());
+        canvas.widthProperty().addListener((observable, oldWidth, newWidth) -> paint());
+        canvas.heightProperty().addListener((observable, oldHeight, newHeight) -> paint());
+        canvas.setOnMouseMoved(e -> updateTooltip(e.getX(), e.getY()));
 
-        // button actions: adjust weekStart and re-render
-        nextWeekBtn.setOnAction(e -> {
-            weekStartRef[0] = weekStartRef[0].plusWeeks(1);
-            renderWeek(root, weekStartRef[0], mergedRanges, topRow, hoursHeader, timelineWidth);
-        });
-        prevWeekBtn.setOnAction(e -> {
-            weekStartRef[0] = weekStartRef[0].minusWeeks(1);
-            renderWeek(root, weekStartRef[0], mergedRanges, topRow, hoursHeader, timelineWidth);
-        });
-
-        Scene scene = new Scene(root);
-        stage.setScene(scene);
+        BorderPane root = new BorderPane();
+        root.setPadding(new Insets(10));
+        root.setTop(topRow);
+        root.setCenter(canvasHolder);
 
-        // allow user to resize the window
+        stage.setScene(new Scene(root));
+        // allow user to resize the window, with a sensible minimum size so the layout remains usable
         stage.setResizable(true);
-        // set sensible minimum size so layout remains usable
         stage.setMinWidth(600);
         stage.setMinHeight(400);
+    }
 
-        stage.show();
-
-        // clear currentStage when user closes the window
-        stage.setOnHidden(evt -> {
-            if (currentStage == stage) {
-                currentStage = null;
-            }
-        });
-
-        // Bind timelineWidth to scene width (minimum remains TIMELINE_WIDTH). Subtract left label area and padding.
-        timelineWidth.bind(Bindings.createDoubleBinding(() -> Math.max(scene.getWidth() - 120, TIMELINE_WIDTH),
-                scene.widthProperty()));
-
-        // After showing, bind the ScrollPane viewport to the scene size so it grows/shrinks with the window.
-        if (root.getCenter() instanceof ScrollPane) {
-            ScrollPane sp = (ScrollPane) root.getCenter();
-            sp.prefViewportWidthProperty().bind(scene.widthProperty().subtract(120));
-            sp.prefViewportHeightProperty().bind(scene.heightProperty().subtract(140));
+    /**
+     * Shows the blocked periods of {@code timeslots} in the timetable window, creating the window the first time.
+     * The window opens at the week of the earliest entry in {@code mergedRanges}, each of which should be a
+     * LocalDateTime[2] array: [start, end], and follows changes to {@code timeslots} from then on.
+     */
+    public static void showMerged(List<LocalDateTime[]> mergedRanges, ReadOnlyTimeslots timeslots) {
+        Objects.requireNonNull(timeslots);
+        if (instance == null) {
+            instance = new TimeslotsWindow();
         }
+        instance.bind(timeslots);
+        instance.showWeek(getEarliestWeekStart(mergedRanges));
+        instance.stage.show();
+        instance.stage.toFront();
     }
 
     /**
-     * Hides the currently shown Timeslots window if any.
+     * Hides the Timeslots window if it is shown.
      */
     public static void hide() {
-        if (currentStage != null) {
-            try {
-                currentStage.hide();
-            } finally {
-                currentStage = null;
-            }
+        if (instance != null) {
+            instance.stage.hide();
         }
     }
 
     /**
-     * Returns true if a Timeslots window is currently visible.
+     * Returns true if the Timeslots window is currently visible.
      */
     public static boolean isShowing() {
-        return currentStage != null && currentStage.isShowing();
+        return instance != null && instance.stage.isShowing();
+    }
+
+    // Returns the Monday of the week of the earliest range, or of the current week if there are no ranges.
+    private static LocalDate getEarliestWeekStart(List<LocalDateTime[]> ranges) {
+        return Optional.ofNullable(ranges)
+                .flatMap(l -> l.stream()
+                        .map(r -> r[0]) // start LocalDateTime
+                        .filter(Objects::nonNull)
+                        .map(LocalDateTime::toLocalDate)
+                        .min(LocalDate::compareTo))
+                .orElse(LocalDate.now())
+                .with(DayOfWeek.MONDAY);
     }
 
-    // Renders the given week starting at weekStart (Monday) into root using provided topRow and hoursHeader nodes.
-    private static void renderWeek(BorderPane root, LocalDate weekStart, List<LocalDateTime[]> ranges,
-            HBox topRow, HBox hoursHeader, DoubleProperty timelineWidth) {
-        // Body: one row per day with timeline pane for the week starting at weekStart
-        VBox body = new VBox(6);
-        body.setPadding(new Insets(8));
-        for (int i = 0; i < 7; i++) { // 7 days in a week
-            LocalDate date = weekStart.plusDays(i);
-            HBox row = buildDayRowForDate(date, ranges, timelineWidth);
-            body.getChildren().add(row);
+    // Listens to newTimeslots instead of the timeslots shown before, if they are different.
+    private void bind(ReadOnlyTimeslots newTimeslots) {
+        if (newTimeslots == timeslots) {
+            return;
+        }
+        if (timeslots != null) {
+            timeslotList.removeListener(timeslotListener);
+            recurringTimeslotList.removeListener(recurringTimeslotListener);
         }
+        timeslots = newTimeslots;
+        // keep the list views, since listeners are registered on them
+        timeslotList = newTimeslots.getTimeslotList();
+        recurringTimeslotList = newTimeslots.getRecurringTimeslotList();
+        timeslotList.addListener(timeslotListener);
+        recurringTimeslotList.addListener(recurringTimeslotListener);
+    }
 
-        ScrollPane sp = new ScrollPane(body);
-        sp.setFitToWidth(true);
-        sp.setPrefViewportWidth(Math.min(TIMELINE_WIDTH + 120, 1000));
-        sp.setPrefViewportHeight(ROW_HEIGHT * 5 + 200);
+    private void showWeek(LocalDate newWeekStart) {
+        weekStart = newWeekStart;
+        refresh();
+    }
 
-        // place topRow and hoursHeader in a container with larger vertical spacing
-        VBox topContainer = new VBox(TOP_CONTAINER_SPACING, topRow, hoursHeader);
-        topContainer.setSpacing(TOP_CONTAINER_SPACING);
-        root.setTop(topContainer);
+    private Timeslot getShownWeek() {
+        return new Timeslot(weekStart.atStartOfDay(), weekStart.plusWeeks(1).atStartOfDay());
+    }
 
-        root.setCenter(sp);
+    private void handleTimeslotsChanged(ListChangeListener.Change<? extends Timeslot> change) {
+        Timeslot week = getShownWeek();
+        boolean isWeekChanged = false;
+        while (!isWeekChanged && change.next()) {
+            isWeekChanged = change.getRemoved().stream().anyMatch(t -> overlaps(t, week))
+                    || change.getAddedSubList().stream().anyMatch(t -> overlaps(t, week));
+        }
+        if (isWeekChanged) {
+            scheduleRefresh();
+        }
     }
 
-    // build the top hours labels and vertical tick lines; timelineWidth drives the timeline Pane width
-    private static HBox buildHoursHeader(DoubleProperty timelineWidth) {
-        HBox header = new HBox();
-        header.setAlignment(Pos.CENTER_LEFT);
-        header.setSpacing(0);
+    private void handleRecurringTimeslotsChanged(ListChangeListener.Change<? extends RecurringTimeslot> change) {
+        Timeslot week = getShownWeek();
+        boolean isWeekChanged = false;
+        while (!isWeekChanged && change.next()) {
+            isWeekChanged = change.getRemoved().stream().anyMatch(r -> !r.getOccurrences(week).isEmpty())
+                    || change.getAddedSubList().stream().anyMatch(r -> !r.getOccurrences(week).isEmpty());
+        }
+        if (isWeekChanged) {
+            scheduleRefresh();
+        }
+    }
 
-        // left placeholder to align with dayLabel (minWidth = DAY_LABEL_WIDTH + ROW_SPACING + BODY_PADDING)
-        Region leftGap = new Region();
-        leftGap.setMinWidth(DAY_LABEL_WIDTH + ROW_SPACING + BODY_PADDING);
-        leftGap.setPrefWidth(DAY_LABEL_WIDTH + ROW_SPACING + BODY_PADDING);
-        header.getChildren().add(leftGap);
+    private static boolean overlaps(Timeslot timeslot, Timeslot range) {
+        return timeslot.getEnd().isAfter(range.getStart()) && timeslot.getStart().isBefore(range.getEnd());
+    }
 
-        Pane timeline = new Pane();
-        // bind timeline width to the shared property so it grows/shrinks with the window
-        timeline.prefWidthProperty().bind(timelineWidth);
-        timeline.setPrefHeight(24);
+    // A command can make several changes in a row, so they are drawn together once it is done.
+    private void scheduleRefresh() {
+        if (isRefreshPending || !stage.isShowing()) {
+            return; // a hidden window is brought up to date when it is shown again
+        }
+        isRefreshPending = true;
+        Platform.runLater(() -> {
+            isRefreshPending = false;
+            refresh();
+        });
+    }
 
-        for (int h = 0; h <= HOURS; h++) {
-            // position ratio relative to base TIMELINE_WIDTH so positions scale
-            double baseX = h * 60 * PIXELS_PER_MINUTE;
-            double ratio = baseX / TIMELINE_WIDTH; // baseX / TIMELINE_WIDTH in [0,1]
-            NumberBinding xBind = timelineWidth.multiply(ratio);
-
-            Line tick = new Line();
-            tick.startXProperty().bind(xBind);
-            tick.endXProperty().bind(xBind);
-            tick.setStartY(0);
-            tick.setEndY(24);
-            // softer tick color
-            tick.setStroke(Color.web("#c5d0da"));
-            tick.setStrokeWidth(1);
-            timeline.getChildren().add(tick);
+    // Asks the timeslots for the blocked periods of the week on screen, splits them by day and repaints.
+    private void refresh() {
+        Timeslot week = getShownWeek();
+        blocksByDay.clear();
+        for (int i = 0; i < DAYS; i++) {
+            blocksByDay.add(new ArrayList<>());
+        }
+        for (Timeslot blocked : timeslots.getBlockedTimeslots(week)) {
+            LocalDateTime start = blocked.getStart().isAfter(week.getStart()) ? blocked.getStart() : week.getStart();
+            LocalDateTime end = blocked.getEnd().isBefore(week.getEnd()) ? blocked.getEnd() : week.getEnd();
+            while (start.isBefore(end)) {
+                LocalDateTime midnight = start.toLocalDate().plusDays(1).atStartOfDay();
+                LocalDateTime partEnd = end.isBefore(midnight) ? end : midnight;
+                int day = (int) ChronoUnit.DAYS.between(weekStart, start.toLocalDate());
+                blocksByDay.get(day).add(new Timeslot(start, partEnd));
+                start = partEnd;
+            }
+        }
+        weekLabel.setText(String.format("%s - %s", weekStart.format(WEEK_FORMATTER),
+                weekStart.plusDays(DAYS - 1).format(WEEK_FORMATTER)));
+        paint();
+    }
 
+    private static double getRowY(int day) {
+        return PADDING + HEADER_HEIGHT + HEADER_GAP + day * (ROW_HEIGHT + ROW_GAP);
+    }
+
+    private static double getTimelineX() {
+        return PADDING + DAY_LABEL_WIDTH + ROW_SPACING;
+    }
+
+    private double getTimelineWidth() {
+        return canvas.getWidth() - getTimelineX() - PADDING;
+    }
+
+    // Paints the hours header and the day rows of the week on screen from the day buckets.
+    private void paint() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        double timelineWidth = getTimelineWidth();
+        if (blocksByDay.isEmpty() || timelineWidth <= 0) {
+            return;
+        }
+
+        // hours header: labels and tick lines
+        gc.setFont(Font.font(11));
+        gc.setTextBaseline(VPos.TOP);
+        gc.setStroke(Color.web("#c5d0da"));
+        gc.setLineWidth(1);
+        for (int h = 0; h <= HOURS; h++) {
+            double x = getTimelineX() + timelineWidth * h / HOURS;
+            gc.strokeLine(x, PADDING, x, PADDING + HEADER_HEIGHT);
             if (h < HOURS) {
-                Label hourLabel = new Label(String.format("%02d:00", START_HOUR + h));
-                hourLabel.setStyle("-fx-text-fill: #556070; -fx-font-size: 11px;");
-                hourLabel.layoutXProperty().bind(xBind.add(4));
-                hourLabel.setLayoutY(2);
-                timeline.getChildren().add(hourLabel);
+                gc.setFill(Color.web("#556070"));
+                gc.fillText(String.format("%02d:00", START_HOUR + h), x + 4, PADDING + 2);
             }
         }
 
-        header.getChildren().add(timeline);
-        return header;
+        for (int day = 0; day < DAYS; day++) {
+            paintDay(gc, day, timelineWidth);
+        }
     }
 
-    // New: buildDayRowForDate renders a row for a given LocalDate (shows label with date)
-    private static HBox buildDayRowForDate(LocalDate date, List<LocalDateTime[]> ranges,
-            DoubleProperty timelineWidth) {
-        HBox row = new HBox();
-        row.setSpacing(ROW_SPACING);
-        row.setAlignment(Pos.CENTER_LEFT);
-        // set the same padding here as used when creating the body so layout offsets match
-        row.setPadding(new Insets(0, 0, 0, 0));
-
-        String dayLabelText = String.format("%s %s", date.getDayOfWeek().toString().substring(0, 3),
-                date.format(DateTimeFormatter.ofPattern("MM/dd")));
-        Label dayLabel = new Label(dayLabelText);
-        dayLabel.setMinWidth(DAY_LABEL_WIDTH);
-        dayLabel.setStyle("-fx-font-weight: bold; -fx-text-fill: #333333;");
-
-        Pane timeline = new Pane();
-        // light background and subtle border for low contrast
-        timeline.setStyle("-fx-background-color: #fbfcfd; -fx-border-color: #e6eef6; -fx-border-radius: 4;");
-        // bind timeline width to the shared property so it scales with the window width
-        timeline.prefWidthProperty().bind(timelineWidth);
-        timeline.setPrefHeight(ROW_HEIGHT);
-        timeline.setOpacity(0.98);
-
-        // add hour divider lines lightly (positions scale with timelineWidth)
+    private void paintDay(GraphicsContext gc, int day, double timelineWidth) {
+        LocalDate date = weekStart.plusDays(day);
+        double y = getRowY(day);
+        double timelineX = getTimelineX();
+
+        gc.setFont(Font.font(null, FontWeight.BOLD, 12));
+        gc.setTextBaseline(VPos.CENTER);
+        gc.setFill(Color.web("#333333"));
+        gc.fillText(String.format("%s %s", date.getDayOfWeek().toString().substring(0, 3),
+                date.format(DAY_FORMATTER)), PADDING, y + ROW_HEIGHT / 2);
+
+        // light background and subtle border for low contrast, with light hour dividers
+        gc.setFill(Color.web("#fbfcfd"));
+        gc.fillRoundRect(timelineX, y, timelineWidth, ROW_HEIGHT, 4, 4);
+        gc.setStroke(Color.web("#e6eef6"));
+        gc.setLineWidth(0.8);
         for (int h = 0; h <= HOURS; h++) {
-            double baseX = h * 60 * PIXELS_PER_MINUTE;
-            double ratio = baseX / TIMELINE_WIDTH;
-            NumberBinding xBind = timelineWidth.multiply(ratio);
-
-            Line divider = new Line();
-            divider.startXProperty().bind(xBind);
-            divider.endXProperty().bind(xBind);
-            divider.setStartY(0);
-            divider.setEndY(ROW_HEIGHT);
-            divider.setStroke(Color.web("#e6eef6"));
-            divider.setStrokeWidth(0.8);
-            timeline.getChildren().add(divider);
+            double x = timelineX + timelineWidth * h / HOURS;
+            gc.strokeLine(x, y, x, y + ROW_HEIGHT);
         }
+        gc.setLineWidth(1);
+        gc.strokeRoundRect(timelineX, y, timelineWidth, ROW_HEIGHT, 4, 4);
+
+        gc.setFont(Font.font(11));
+        gc.setTextBaseline(VPos.TOP);
+        for (Timeslot block : blocksByDay.get(day)) {
+            Optional<double[]> bounds = getBlockBounds(block, timelineWidth);
+            if (bounds.isEmpty()) {
+                continue;
+            }
+            double left = bounds.get()[0];
+            double width = bounds.get()[1] - left;
+            gc.setFill(pickColorForDay(date.getDayOfWeek()));
+            gc.fillRoundRect(left, y + BLOCK_INSET, width, ROW_HEIGHT - 2 * BLOCK_INSET, 8, 8);
+            // softer stroke for blocks
+            gc.setStroke(Color.web("#d0d7de"));
+            gc.strokeRoundRect(left, y + BLOCK_INSET, width, ROW_HEIGHT - 2 * BLOCK_INSET, 8, 8);
+            gc.setFill(Color.web("#1f2a2f"));
+            gc.fillText(String.format("%s - %s", getVisibleStart(block).format(TIME_FORMATTER),
+                    block.getEnd().format(TIME_FORMATTER)), left + 6, y + BLOCK_INSET + 4);
+        }
+    }
+
+    // Returns the later of the start of block, which lies within one day, and the start of the timeline that day.
+    private static LocalDateTime getVisibleStart(Timeslot block) {
+        LocalDateTime timelineStart = block.getStart().toLocalDate().atTime(START_HOUR, 0);
+        return block.getStart().isAfter(timelineStart) ? block.getStart() : timelineStart;
+    }
 
-        // Place a block for each visible portion of each timeslot that intersects this date and the displayed window
-        if (ranges != null) {
-            for (LocalDateTime[] range : ranges) {
-                LocalDateTime start = range[0];
-                LocalDateTime end = range[1];
-                if (start == null || end == null) {
-                    continue;
-                }
-
-                // Compute the portion of [start,end) that falls on 'date'
-                LocalDateTime dayWindowStart = LocalDateTime.of(date, LocalTime.of(START_HOUR, 0));
-                LocalDateTime dayWindowEnd = LocalDateTime.of(date.plusDays(1), LocalTime.MIDNIGHT);
-
-                LocalDateTime renderStart = start.isAfter(dayWindowStart) ? start : dayWindowStart;
-                LocalDateTime renderEnd = end.isBefore(dayWindowEnd) ? end : dayWindowEnd;
-
-                if (renderStart.isBefore(renderEnd)) {
-                    double minutesFromStart = (renderStart.getHour() * 60 + renderStart.getMinute()) - START_HOUR * 60;
-                    double durationMinutes = (renderEnd.getHour() * 60 + renderEnd.getMinute())
-                            - (renderStart.getHour() * 60 + renderStart.getMinute());
-
-                    // Compute ratios relative to base timeline so they scale with timelineWidth
-                    double xRatio = (minutesFromStart * PIXELS_PER_MINUTE) / TIMELINE_WIDTH;
-                    double wRatio = (durationMinutes * PIXELS_PER_MINUTE) / TIMELINE_WIDTH;
-
-                    NumberBinding xBind = timelineWidth.multiply(xRatio);
-                    NumberBinding wBind = timelineWidth.multiply(wRatio);
-
-                    Rectangle block = new Rectangle();
-                    // bind position and size so block scales with timelineWidth
-                    block.xProperty().bind(xBind);
-                    block.yProperty().set(8);
-                    block.widthProperty().bind(wBind);
-                    block.setHeight(ROW_HEIGHT - 16);
-                    block.setArcWidth(8);
-                    block.setArcHeight(8);
-                    block.setFill(pickColorForDay(date.getDayOfWeek()));
-                    // softer stroke for blocks
-                    block.setStroke(Color.web("#d0d7de"));
-                    block.setStrokeWidth(1);
-
-                    String labelText = String.format("%s - %s",
-                            renderStart.format(DateTimeFormatter.ofPattern("HH:mm")),
-                            renderEnd.format(DateTimeFormatter.ofPattern("HH:mm")));
-                    Label bl = new Label(labelText);
-                    bl.setStyle("-fx-text-fill: #1f2a2f; -fx-font-size: 11px;");
-                    // bind label position to block.x + 6 so it follows scaling
-                    bl.layoutXProperty().bind(xBind.add(6));
-                    bl.setLayoutY(12);
-
-                    Tooltip tooltip = new Tooltip(start.format(FORMATTER) + "\n" + end.format(FORMATTER));
-                    Tooltip.install(block, tooltip);
-                    Tooltip.install(bl, tooltip);
-
-                    timeline.getChildren().addAll(block, bl);
-                }
+    // Returns the left and right x of the part of block, which lies within one day, that the timeline shows.
+    private static Optional<double[]> getBlockBounds(Timeslot block, double timelineWidth) {
+        LocalDateTime timelineStart = block.getStart().toLocalDate().atTime(START_HOUR, 0);
+        LocalDateTime visibleStart = getVisibleStart(block);
+        if (!visibleStart.isBefore(block.getEnd())) {
+            return Optional.empty();
+        }
+        double pixelsPerMinute = timelineWidth / (HOURS * 60);
+        double left = getTimelineX() + Duration.between(timelineStart, visibleStart).toMinutes() * pixelsPerMinute;
+        double right = getTimelineX() + Duration.between(timelineStart, block.getEnd()).toMinutes() * pixelsPerMinute;
+        return Optional.of(new double[] {left, right});
+    }
+
+    // Shows the full times of the block under the mouse as a tooltip, or no tooltip if there is none.
+    private void updateTooltip(double x, double y) {
+        Optional<Timeslot> hovered = findBlockAt(x, y);
+        if (hovered.isPresent()) {
+            tooltip.setText(hovered.get().getStart().format(FORMATTER) + "\n"
+                    + hovered.get().getEnd().format(FORMATTER));
+            if (!isTooltipInstalled) {
+                Tooltip.install(canvas, tooltip);
+                isTooltipInstalled = true;
             }
+        } else if (isTooltipInstalled) {
+            Tooltip.uninstall(canvas, tooltip);
+            isTooltipInstalled = false;
         }
+    }
 
-        row.getChildren().addAll(dayLabel, timeline);
-        return row;
+    private Optional<Timeslot> findBlockAt(double x, double y) {
+        int day = (int) Math.floor((y - getRowY(0)) / (ROW_HEIGHT + ROW_GAP));
+        if (blocksByDay.isEmpty() || day < 0 || day >= DAYS
+                || y < getRowY(day) + BLOCK_INSET || y > getRowY(day) + ROW_HEIGHT - BLOCK_INSET) {
+            return Optional.empty();
+        }
+        double timelineWidth = getTimelineWidth();
+        return blocksByDay.get(day).stream()
+                .filter(block -> getBlockBounds(block, timelineWidth)
+                        .map(bounds -> x >= bounds[0] && x <= bounds[1])
+                        .orElse(false))
+                .findFirst();
     }
 
     // pick a pleasant color for the day (cycled)
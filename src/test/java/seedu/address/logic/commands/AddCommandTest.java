@@ -11,10 +11,14 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
@@ -25,7 +29,15 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTimeslots;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.Week;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GithubUsername;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.SearchableField;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.predicates.StatusBitmapPredicate;
+import seedu.address.model.person.sortcriterion.SortCriterion;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -56,6 +68,17 @@ public class AddCommandTest {
         assertThrows(CommandException.class, AddCommand.MESSAGE_DUPLICATE_PERSON, () -> addCommand.execute(modelStub));
     }
 
+    @Test
+    public void execute_duplicateGithubUsername_throwsCommandException() {
+        ModelStubAcceptingPersonAdded modelStub = new ModelStubAcceptingPersonAdded();
+        modelStub.addPerson(new PersonBuilder().withStudentId("A7654321X").withEmail("other@example.com")
+                .withPhone("90000000").build());
+        AddCommand addCommand = new AddCommand(new PersonBuilder().build());
+
+        assertThrows(CommandException.class, Messages.MESSAGE_DUPLICATE_GITHUB_USERNAME, () ->
+                addCommand.execute(modelStub));
+    }
+
     @Test
     public void equals() {
         Person alice = new PersonBuilder().withName("Alice").build();
@@ -151,6 +174,41 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByGithubUsername(GithubUsername githubUsername) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<StudentId>> getSearchCandidates(SearchableField field, String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<StudentId> findStatusMatches(List<StatusBitmapPredicate> predicates) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getTagGroup(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -166,11 +224,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void sortPersonList(List<SortCriterion> criteria) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getTimeslotsVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void saveAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void endUndoableStep() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -181,6 +259,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyTimeslots getTimeslots() {
             throw new AssertionError("This method should not be called.");
@@ -206,6 +294,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean hasRecurringTimeslot(seedu.address.model.timeslot.RecurringTimeslot recurringTimeslot) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addRecurringTimeslot(seedu.address.model.timeslot.RecurringTimeslot recurringTimeslot) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeRecurringTimeslot(seedu.address.model.timeslot.RecurringTimeslot recurringTimeslot) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void clearTimeslots() {
             throw new AssertionError("This method should not be called.");
@@ -220,6 +323,11 @@ public class AddCommandTest {
         public Week getCurrentWeek() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public ObservableValue<Week> getObservableCurrentWeek() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -258,11 +366,40 @@ public class AddCommandTest {
             personsAdded.add(person);
         }
 
+        @Override
+        public List<Person> findPersonsByEmail(Email email) {
+            requireNonNull(email);
+            return personsAdded.stream().filter(person -> person.getEmail().equals(email)).toList();
+        }
+
+        @Override
+        public List<Person> findPersonsByPhone(Phone phone) {
+            requireNonNull(phone);
+            return personsAdded.stream().filter(person -> person.getPhone().equals(phone)).toList();
+        }
+
+        @Override
+        public List<Person> findPersonsByGithubUsername(GithubUsername githubUsername) {
+            requireNonNull(githubUsername);
+            return personsAdded.stream()
+                    .filter(person -> person.getGithubUsername().equals(githubUsername)).toList();
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getTimeslotsVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void saveAddressBook() {
             // Do nothing - this is a stub for testing
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ExerciseTracker;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Status;
+import seedu.address.model.person.predicates.ExerciseStatusMatchesPredicate;
+import seedu.address.model.person.predicates.FilterCombinedPredicate;
+import seedu.address.model.person.predicates.LabStatusMatchesPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_exerciseAndLabStatuses_matchingPersonFound() {
+        ExerciseTracker overdueTracker = BENSON.getExerciseTracker().copy();
+        overdueTracker.markExercise(Index.fromZeroBased(3), Status.OVERDUE);
+        Person overdueBenson = new PersonBuilder(BENSON).withExerciseTracker(overdueTracker.toString()).build();
+        model.setPerson(BENSON, overdueBenson);
+        expectedModel.setPerson(BENSON, overdueBenson);
+
+        FilterCombinedPredicate predicate = new FilterCombinedPredicate(Arrays.asList(
+                new ExerciseStatusMatchesPredicate(Index.fromZeroBased(3), Status.OVERDUE),
+                new LabStatusMatchesPredicate(Index.fromOneBased(5), false)));
+        FilterCommand command = new FilterCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(overdueBenson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_matchingPersonReverted_personNoLongerListed() {
+        ExerciseTracker doneTracker = BENSON.getExerciseTracker().copy();
+        doneTracker.markExercise(Index.fromZeroBased(3), Status.DONE);
+        Person doneBenson = new PersonBuilder(BENSON).withExerciseTracker(doneTracker.toString()).build();
+        model.saveAddressBook();
+        model.setPerson(BENSON, doneBenson);
+
+        new FilterCommand(new ExerciseStatusMatchesPredicate(Index.fromZeroBased(3), Status.DONE)).execute(model);
+        assertEquals(List.of(doneBenson), model.getFilteredPersonList());
+
+        model.undoAddressBook();
+        assertEquals(List.of(), model.getFilteredPersonList());
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.timeslot.RecurringTimeslot;
+import seedu.address.model.timeslot.Timeslot;
+
+public class FindFreeCommandTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 10, 6, 0, 0);
+
+    @Test
+    public void getFreeTimeslots_blockedTimeslots_returnsLongEnoughGapsInOrder() {
+        ModelManager model = new ModelManager();
+        model.addTimeslot(hours(8, 11)); // starts before the window
+        model.addTimeslot(new Timeslot(MONDAY.plusHours(11).plusMinutes(20), MONDAY.plusHours(12)));
+        model.addTimeslot(hours(13, 15));
+        Timeslot window = hours(10, 18);
+
+        // 11:00-11:20 is too short
+        assertEquals(List.of(hours(12, 13), hours(15, 18)),
+                model.getTimeslots().getFreeTimeslots(window, Duration.ofMinutes(30), Integer.MAX_VALUE));
+        assertEquals(List.of(hours(12, 13)),
+                model.getTimeslots().getFreeTimeslots(window, Duration.ofMinutes(30), 1));
+        assertEquals(List.of(hours(15, 18)),
+                model.getTimeslots().getFreeTimeslots(window, Duration.ofHours(2), Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void getFreeTimeslots_recurringTimeslot_occurrencesInWindowAreBlocked() {
+        ModelManager model = new ModelManager();
+        model.addRecurringTimeslot(new RecurringTimeslot(hours(12, 14), 4,
+                List.of(MONDAY.plusWeeks(1).toLocalDate())));
+        model.addTimeslot(hours(9, 10));
+        model.addTimeslot(hours(13, 15)); // overlaps the first occurrence
+        Timeslot window = hours(8, 18);
+
+        assertEquals(List.of(hours(9, 10), hours(12, 15)), model.getTimeslots().getBlockedTimeslots(window));
+        assertEquals(List.of(hours(8, 9), hours(10, 12), hours(15, 18)),
+                model.getTimeslots().getFreeTimeslots(window, Duration.ofMinutes(30), Integer.MAX_VALUE));
+        assertEquals(List.of(hours(8, 9), hours(10, 12)),
+                model.getTimeslots().getFreeTimeslots(window, Duration.ofMinutes(30), 2));
+
+        // the occurrence in the second week is skipped, and the one in the third week is blocked
+        Timeslot secondWeek = new Timeslot(MONDAY.plusWeeks(1).plusHours(8), MONDAY.plusWeeks(1).plusHours(18));
+        assertEquals(List.of(secondWeek),
+                model.getTimeslots().getFreeTimeslots(secondWeek, Duration.ofMinutes(30), Integer.MAX_VALUE));
+        Timeslot thirdWeekLab = new Timeslot(MONDAY.plusWeeks(2).plusHours(12), MONDAY.plusWeeks(2).plusHours(14));
+        assertEquals(List.of(thirdWeekLab), model.getTimeslots().getBlockedTimeslots(
+                new Timeslot(MONDAY.plusWeeks(2), MONDAY.plusWeeks(3))));
+    }
+
+    @Test
+    public void execute_noBlockedTimeslots_wholeWindowFree() {
+        ModelManager model = new ModelManager();
+        FindFreeCommand command = new FindFreeCommand(hours(10, 18), Duration.ofMinutes(30), 3);
+
+        String expectedRange = String.format("%s -> %s%n",
+                MONDAY.plusHours(10).format(Timeslot.DISPLAY_FORMATTER),
+                MONDAY.plusHours(18).format(Timeslot.DISPLAY_FORMATTER));
+        assertEquals(String.format(FindFreeCommand.MESSAGE_SUCCESS, 30, expectedRange),
+                command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_fullyBlocked_noFreeTimeslots() {
+        ModelManager model = new ModelManager();
+        model.addTimeslot(hours(9, 19));
+        FindFreeCommand command = new FindFreeCommand(hours(10, 18), Duration.ofMinutes(30), 3);
+
+        assertEquals(String.format(FindFreeCommand.MESSAGE_NO_FREE_TIMESLOTS, 30,
+                MONDAY.plusHours(10).format(Timeslot.DISPLAY_FORMATTER),
+                MONDAY.plusHours(18).format(Timeslot.DISPLAY_FORMATTER)),
+                command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        FindFreeCommand command = new FindFreeCommand(hours(10, 18), Duration.ofMinutes(30), 3);
+        assertTrue(command.equals(new FindFreeCommand(hours(10, 18), Duration.ofMinutes(30), 3)));
+        assertFalse(command.equals(new FindFreeCommand(hours(10, 18), Duration.ofMinutes(30), 4)));
+        assertFalse(command.equals(new FindFreeCommand(hours(10, 18), Duration.ofMinutes(60), 3)));
+        assertFalse(command.equals(null));
+    }
+
+    private static Timeslot hours(int startHour, int endHour) {
+        return new Timeslot(MONDAY.plusHours(startHour), MONDAY.plusHours(endHour));
+    }
+}
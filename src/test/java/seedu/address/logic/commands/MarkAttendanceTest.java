@@ -10,10 +10,16 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_HUNDRED_LAB;
 import static seedu.address.testutil.TypicalIndexes.INDEX_HUNDRED_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_LAB;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.index.MultiIndex;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
@@ -23,6 +29,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.person.LabAttendanceList;
 import seedu.address.model.person.LabList;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class MarkAttendanceTest {
@@ -83,6 +90,47 @@ public class MarkAttendanceTest {
         assertEquals(expectedMessage.trim(), result.getFeedbackToUser().trim());
     }
 
+    @Test
+    public void execute_tagGroup_marksEveryMember() {
+        Person editedAlice = withFirstLabAttended(ALICE);
+        Person editedDaniel = withFirstLabAttended(DANIEL);
+
+        MarkAttendanceCommand markAttendanceCommand = new MarkAttendanceCommand(
+                new Tag("UPCOMINGCONSULTATION"), INDEX_FIRST_LAB, true);
+
+        String expectedMessage = String.format(MarkAttendanceCommand.MESSAGE_MARK_ATTENDANCE_SUCCESS,
+                INDEX_FIRST_LAB.getOneBased(), ALICE.getName() + ", " + DANIEL.getName());
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(ALICE, editedAlice);
+        expectedModel.setPerson(DANIEL, editedDaniel);
+
+        assertCommandSuccess(markAttendanceCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rangeOfPersons_marksAllAtOnceAndUndoesTogether() throws CommandException {
+        List<Person> originalPersons = List.copyOf(model.getFilteredPersonList().subList(0, 3));
+        int[] changeCount = new int[1];
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        new MarkAttendanceCommand(new MultiIndex(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON), INDEX_FIRST_LAB, true)
+                .execute(model);
+        for (int i = 0; i < originalPersons.size(); i++) {
+            assertEquals(withFirstLabAttended(originalPersons.get(i)), model.getFilteredPersonList().get(i));
+        }
+        assertEquals(1, changeCount[0]);
+
+        model.undoAddressBook();
+        assertEquals(originalPersons, model.getFilteredPersonList().subList(0, 3));
+    }
+
+    @Test
+    public void execute_emptyTagGroup_throwsCommandException() {
+        MarkAttendanceCommand markAttendanceCommand = new MarkAttendanceCommand(
+                new Tag("T99"), INDEX_FIRST_LAB, true);
+        assertThrows(CommandException.class, () -> markAttendanceCommand.execute(model));
+    }
 
     @Test
     public void equals() {
@@ -110,5 +158,14 @@ public class MarkAttendanceTest {
         // different remark -> returns false
         assertNotEquals(new MarkAttendanceCommand(
                 new MultiIndex(INDEX_FIRST_PERSON), INDEX_SECOND_LAB, true), standardCommand);
+
+        // tag group instead of index -> returns false
+        assertNotEquals(new MarkAttendanceCommand(new Tag("T01"), INDEX_FIRST_LAB, true), standardCommand);
+    }
+
+    private static Person withFirstLabAttended(Person person) {
+        LabAttendanceList labAttendanceList = ((LabList) person.getLabAttendanceList()).copy();
+        labAttendanceList.markLabAsAttended(0);
+        return new PersonBuilder(person).withLabAttendanceList(labAttendanceList.toString()).build();
     }
 }
@@ -0,0 +1,37 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.Week;
+
+public class SetWeekCommandTest {
+
+    @Test
+    public void execute_validWeek_success() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setCurrentWeek(new Week(7));
+
+        assertCommandSuccess(new SetWeekCommand(new Week(7)), model,
+                String.format(SetWeekCommand.MESSAGE_SUCCESS, 7), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SetWeekCommand setWeekSevenCommand = new SetWeekCommand(new Week(7));
+
+        assertTrue(setWeekSevenCommand.equals(setWeekSevenCommand));
+        assertTrue(setWeekSevenCommand.equals(new SetWeekCommand(new Week(7))));
+        assertFalse(setWeekSevenCommand.equals(new SetWeekCommand(new Week(8))));
+        assertFalse(setWeekSevenCommand.equals(null));
+        assertFalse(setWeekSevenCommand.equals(1));
+    }
+}
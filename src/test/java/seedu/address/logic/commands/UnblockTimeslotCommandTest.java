@@ -5,12 +5,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ModelManager;
+import seedu.address.model.timeslot.RecurringTimeslot;
 import seedu.address.model.timeslot.Timeslot;
 
 public class UnblockTimeslotCommandTest {
@@ -100,4 +103,27 @@ public class UnblockTimeslotCommandTest {
         assertEquals(String.format(UnblockTimeslotCommand.MESSAGE_TIMESLOT_NOT_FOUND, start, end),
                 ex.getMessage());
     }
+
+    @Test
+    public void execute_coversOccurrencesOfRecurringTimeslot_skipsThem() throws Exception {
+        ModelManager model = new ModelManager();
+        Timeslot lab = new Timeslot(LocalDateTime.of(2025, 10, 6, 14, 0),
+                LocalDateTime.of(2025, 10, 6, 16, 0));
+        RecurringTimeslot rule = new RecurringTimeslot(lab, 3, List.of());
+        model.addRecurringTimeslot(rule);
+
+        // covers the whole second occurrence and only part of the third
+        CommandResult result = new UnblockTimeslotCommand(new Timeslot(LocalDateTime.of(2025, 10, 13, 0, 0),
+                LocalDateTime.of(2025, 10, 20, 15, 0))).execute(model);
+
+        RecurringTimeslot skipped = rule.withExceptions(List.of(LocalDate.of(2025, 10, 13)));
+        assertEquals(List.of(skipped), model.getTimeslots().getRecurringTimeslotList());
+        assertEquals(String.format(UnblockTimeslotCommand.MESSAGE_SUCCESS_WITH_SKIPPED, 0, 0, 1),
+                result.getFeedbackToUser());
+
+        // skipping the remaining occurrences removes the rule
+        new UnblockTimeslotCommand(new Timeslot(LocalDateTime.of(2025, 10, 6, 0, 0),
+                LocalDateTime.of(2025, 10, 21, 0, 0))).execute(model);
+        assertEquals(List.of(), model.getTimeslots().getRecurringTimeslotList());
+    }
 }
@@ -7,10 +7,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -19,7 +23,15 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyTimeslots;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.Week;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GithubUsername;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.SearchableField;
+import seedu.address.model.person.StudentId;
+import seedu.address.model.person.predicates.StatusBitmapPredicate;
+import seedu.address.model.person.sortcriterion.SortCriterion;
+import seedu.address.model.tag.Tag;
 
 public class UndoCommandTest {
 
@@ -126,6 +138,41 @@ public class UndoCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByEmail(Email email) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByGithubUsername(GithubUsername githubUsername) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Set<StudentId>> getSearchCandidates(SearchableField field, String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<StudentId> findStatusMatches(List<StatusBitmapPredicate> predicates) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getTagGroup(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -136,11 +183,26 @@ public class UndoCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getTimeslotsVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void saveAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void endUndoableStep() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -151,6 +213,16 @@ public class UndoCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyTimeslots getTimeslots() {
             throw new AssertionError("This method should not be called.");
@@ -176,6 +248,21 @@ public class UndoCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean hasRecurringTimeslot(seedu.address.model.timeslot.RecurringTimeslot recurringTimeslot) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addRecurringTimeslot(seedu.address.model.timeslot.RecurringTimeslot recurringTimeslot) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeRecurringTimeslot(seedu.address.model.timeslot.RecurringTimeslot recurringTimeslot) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void clearTimeslots() {
             throw new AssertionError("This method should not be called.");
@@ -186,6 +273,11 @@ public class UndoCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void sortPersonList(List<SortCriterion> criteria) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setCurrentWeek(Week currentWeek) {
             throw new AssertionError("This method should not be called.");
@@ -195,6 +287,11 @@ public class UndoCommandTest {
         public Week getCurrentWeek() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public ObservableValue<Week> getObservableCurrentWeek() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
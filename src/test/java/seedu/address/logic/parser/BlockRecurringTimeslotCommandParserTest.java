@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BlockRecurringTimeslotCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.timeslot.RecurringTimeslot;
+import seedu.address.model.timeslot.Timeslot;
+
+public class BlockRecurringTimeslotCommandParserTest {
+
+    private static final Timeslot LAB = new Timeslot(LocalDateTime.of(2025, 10, 6, 14, 0),
+            LocalDateTime.of(2025, 10, 6, 16, 0));
+
+    private final BlockRecurringTimeslotCommandParser parser = new BlockRecurringTimeslotCommandParser();
+
+    @Test
+    public void parse_humanFormatWithSkippedDates_success() throws Exception {
+        String args = " ts/6 Oct 2025, 14:00 te/6 Oct 2025, 16:00 w/13 x/20 Oct 2025 x/2025-11-03";
+        RecurringTimeslot expected = new RecurringTimeslot(LAB, 13,
+                List.of(LocalDate.of(2025, 10, 20), LocalDate.of(2025, 11, 3)));
+        assertEquals(new BlockRecurringTimeslotCommand(expected), parser.parse(args));
+    }
+
+    @Test
+    public void parse_isoFormatWithoutSkippedDates_success() throws Exception {
+        String args = " ts/2025-10-06T14:00:00 te/2025-10-06T16:00:00 w/6";
+        assertEquals(new BlockRecurringTimeslotCommand(new RecurringTimeslot(LAB, 6, List.of())),
+                parser.parse(args));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // missing weeks
+        assertThrows(ParseException.class, () -> parser.parse(" ts/2025-10-06T14:00:00 te/2025-10-06T16:00:00"));
+        // zero weeks
+        assertThrows(ParseException.class, () ->
+                parser.parse(" ts/2025-10-06T14:00:00 te/2025-10-06T16:00:00 w/0"));
+        // skipped date that is not a Monday
+        assertThrows(ParseException.class, () ->
+                parser.parse(" ts/2025-10-06T14:00:00 te/2025-10-06T16:00:00 w/13 x/21 Oct 2025"));
+        // unparseable skipped date
+        assertThrows(ParseException.class, () ->
+                parser.parse(" ts/2025-10-06T14:00:00 te/2025-10-06T16:00:00 w/13 x/next week"));
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindFreeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.timeslot.Timeslot;
+
+public class FindFreeCommandParserTest {
+
+    private static final Timeslot WINDOW = new Timeslot(LocalDateTime.of(2025, 10, 6, 10, 0),
+            LocalDateTime.of(2025, 10, 6, 18, 0));
+
+    private final FindFreeCommandParser parser = new FindFreeCommandParser();
+
+    @Test
+    public void parse_humanFormatWithLimit_success() throws Exception {
+        String args = " ts/6 Oct 2025, 10:00 te/6 Oct 2025, 18:00 d/30 top/3";
+        assertEquals(new FindFreeCommand(WINDOW, Duration.ofMinutes(30), 3), parser.parse(args));
+    }
+
+    @Test
+    public void parse_isoFormatWithoutLimit_success() throws Exception {
+        String args = " ts/2025-10-06T10:00:00 te/2025-10-06T18:00:00 d/45";
+        assertEquals(new FindFreeCommand(WINDOW, Duration.ofMinutes(45), Integer.MAX_VALUE), parser.parse(args));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // missing duration
+        assertThrows(ParseException.class, () -> parser.parse(" ts/2025-10-06T10:00:00 te/2025-10-06T18:00:00"));
+        // zero duration
+        assertThrows(ParseException.class, () ->
+                parser.parse(" ts/2025-10-06T10:00:00 te/2025-10-06T18:00:00 d/0"));
+        // end before start
+        assertThrows(ParseException.class, () ->
+                parser.parse(" ts/2025-10-06T18:00:00 te/2025-10-06T10:00:00 d/30"));
+        // invalid limit
+        assertThrows(ParseException.class, () ->
+                parser.parse(" ts/2025-10-06T10:00:00 te/2025-10-06T18:00:00 d/30 top/-1"));
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EXERCISE_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
 
@@ -16,6 +17,7 @@ import seedu.address.commons.core.index.MultiIndex;
 import seedu.address.logic.commands.MarkExerciseCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Status;
+import seedu.address.model.tag.Tag;
 
 public class MarkExerciseCommandParserTest {
 
@@ -39,6 +41,21 @@ public class MarkExerciseCommandParserTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    public void parse_tagGroup_returnsMarkExerciseCommand() throws Exception {
+        String input = " " + PREFIX_TAG + "T01 " + PREFIX_EXERCISE_INDEX + "0 " + PREFIX_STATUS + "D";
+        MarkExerciseCommand expected = new MarkExerciseCommand(new Tag("T01"), Index.fromOneBased(1), Status.DONE);
+        assertEquals(expected, parser.parse(input));
+    }
+
+    @Test
+    public void parse_indexAndTagGroup_throwsParseException() {
+        String input = "1 " + PREFIX_TAG + "T01 " + PREFIX_EXERCISE_INDEX + "0 " + PREFIX_STATUS + "D";
+        ParseException e = assertThrows(ParseException.class, () -> parser.parse(input));
+        assertEquals(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                MarkExerciseCommand.MESSAGE_USAGE), e.getMessage());
+    }
+
     /**
      * Missing status prefix should throw ParseException.
      */
@@ -5,9 +5,13 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT_CRITERION;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.sortcriterion.ExerciseSortCriterion;
+import seedu.address.model.person.sortcriterion.LabSortCriterion;
 import seedu.address.model.person.sortcriterion.NameSortCriterion;
 import seedu.address.model.person.sortcriterion.StudentIdSortCriterion;
 
@@ -37,6 +41,15 @@ public class SortCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_multipleCriteriaWithDirections_success() {
+        String userInput = " " + PREFIX_SORT_CRITERION + "lab " + PREFIX_SORT_CRITERION + "name desc "
+                + PREFIX_SORT_CRITERION + "ex ASC";
+        SortCommand expectedCommand = new SortCommand(List.of(new LabSortCriterion(), new NameSortCriterion(true),
+                new ExerciseSortCriterion(false)));
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
     @Test
     public void parse_invalidSortCriterion_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
@@ -44,6 +57,10 @@ public class SortCommandParserTest {
         // Invalid criterion keyword
         assertParseFailure(parser, " " + PREFIX_SORT_CRITERION + "email", expectedMessage);
         assertParseFailure(parser, " " + PREFIX_SORT_CRITERION + "phone", expectedMessage);
+
+        // Invalid direction
+        assertParseFailure(parser, " " + PREFIX_SORT_CRITERION + "name down", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_SORT_CRITERION + "name asc desc", expectedMessage);
     }
 
     @Test
@@ -6,19 +6,26 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GithubUsername;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -77,6 +84,54 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void findPersonsByContactFields_personInAddressBook_ignoresCase() {
+        addressBook.addPerson(ALICE);
+        assertEquals(List.of(ALICE), addressBook.findPersonsByEmail(new Email("ALICE@example.com")));
+        assertEquals(List.of(ALICE), addressBook.findPersonsByPhone(ALICE.getPhone()));
+        assertEquals(List.of(ALICE), addressBook.findPersonsByGithubUsername(new GithubUsername("alice")));
+        assertEquals(List.of(), addressBook.findPersonsByEmail(BENSON.getEmail()));
+    }
+
+    @Test
+    public void findPersonsByContactFields_afterSetPersonAndRemove_indexUpdated() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice2@example.com").withPhone("90000000")
+                .withGithubUsername("Alice2").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(), addressBook.findPersonsByEmail(ALICE.getEmail()));
+        assertEquals(List.of(editedAlice), addressBook.findPersonsByPhone(new Phone("90000000")));
+
+        addressBook.removePerson(editedAlice);
+        assertEquals(List.of(), addressBook.findPersonsByGithubUsername(new GithubUsername("Alice2")));
+    }
+
+    @Test
+    public void getTagGroup_afterSortAndEdit_returnsMembersInListOrder() {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.sortPersons((first, second) -> second.getName().fullName.compareTo(first.getName().fullName));
+        assertEquals(Arrays.asList(DANIEL, ALICE), addressBook.getTagGroup(new Tag("upcomingconsultation")));
+
+        Person retaggedBenson = new PersonBuilder(BENSON).withTags("upcomingConsultation").build();
+        addressBook.setPerson(BENSON, retaggedBenson);
+        assertEquals(Arrays.asList(DANIEL, retaggedBenson, ALICE),
+                addressBook.getTagGroup(new Tag("upcomingConsultation")));
+        assertEquals(Collections.emptyList(), addressBook.getTagGroup(new Tag("hadConsultation")));
+    }
+
+    @Test
+    public void getTagGroup_turkishDefaultLocale_ignoresCase() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            Person taggedAlice = new PersonBuilder(ALICE).withTags("TI").build();
+            addressBook.addPerson(taggedAlice);
+            assertEquals(List.of(taggedAlice), addressBook.getTagGroup(new Tag("ti")));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -109,6 +164,11 @@ public class AddressBookTest {
         public Week getCurrentWeek() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public long getVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
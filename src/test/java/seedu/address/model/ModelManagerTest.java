@@ -2,21 +2,33 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.LabList;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.sortcriterion.LabSortCriterion;
+import seedu.address.model.person.sortcriterion.NameSortCriterion;
+import seedu.address.model.timeslot.Timeslot;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +105,182 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getAddressBookVersion_afterChange_increases() {
+        long addressBookVersion = modelManager.getAddressBookVersion();
+        long timeslotsVersion = modelManager.getTimeslotsVersion();
+        modelManager.hasPerson(ALICE);
+        assertEquals(addressBookVersion, modelManager.getAddressBookVersion());
+
+        modelManager.addPerson(ALICE);
+        assertTrue(modelManager.getAddressBookVersion() > addressBookVersion);
+        assertEquals(timeslotsVersion, modelManager.getTimeslotsVersion());
+    }
+
+    @Test
+    public void undoAddressBook_multipleSteps_restoresEachPreviousState() {
+        modelManager.saveAddressBook();
+        modelManager.addPerson(ALICE);
+        modelManager.saveAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.saveAddressBook();
+        modelManager.deletePerson(ALICE);
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+        modelManager.undoAddressBook();
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.getAddressBook().getPersonList().isEmpty());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void redoAddressBook_afterUndo_reappliesChanges() {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        modelManager.saveAddressBook();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.saveAddressBook();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.setCurrentWeek(new Week(3));
+
+        modelManager.undoAddressBook();
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.canRedoAddressBook());
+
+        modelManager.redoAddressBook();
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+        modelManager.redoAddressBook();
+        assertEquals(List.of(editedAlice, BENSON), modelManager.getAddressBook().getPersonList());
+        assertEquals(new Week(3), modelManager.getCurrentWeek());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void setCurrentWeek_thenUndo_labStatusesFollowWeek() {
+        Person person = new PersonBuilder().build();
+        modelManager.addPerson(person);
+        List<Week> notifiedWeeks = new ArrayList<>();
+        modelManager.getObservableCurrentWeek().addListener((observable, oldWeek, newWeek) ->
+                notifiedWeeks.add(newWeek));
+
+        modelManager.saveAddressBook();
+        modelManager.setCurrentWeek(new Week(6));
+        assertSame(person, modelManager.getAddressBook().getPersonList().get(0));
+        assertEquals(LabList.STATUS_ABSENT,
+                person.getLabAttendanceList().statusAt(2, modelManager.getCurrentWeek()));
+
+        modelManager.undoAddressBook();
+        assertEquals(new Week(0), modelManager.getCurrentWeek());
+        assertEquals(LabList.STATUS_NOT_ATTENDED,
+                person.getLabAttendanceList().statusAt(2, modelManager.getCurrentWeek()));
+        assertEquals(List.of(new Week(6), new Week(0)), notifiedWeeks);
+    }
+
+    @Test
+    public void addTimeslot_overlappingAndTouching_mergedAndUndoable() {
+        LocalDateTime monday = LocalDateTime.of(2025, 10, 6, 0, 0);
+        Timeslot morning = new Timeslot(monday.plusHours(9), monday.plusHours(10));
+        Timeslot noon = new Timeslot(monday.plusHours(11), monday.plusHours(13));
+        Timeslot evening = new Timeslot(monday.plusHours(18), monday.plusHours(19));
+        modelManager.addTimeslot(evening);
+        modelManager.addTimeslot(noon);
+        modelManager.addTimeslot(morning);
+
+        modelManager.saveAddressBook();
+        modelManager.addTimeslot(new Timeslot(monday.plusHours(10), monday.plusHours(12)));
+        Timeslot merged = new Timeslot(monday.plusHours(9), monday.plusHours(13));
+        assertEquals(List.of(merged, evening), modelManager.getTimeslots().getTimeslotList());
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(morning, noon, evening), modelManager.getTimeslots().getTimeslotList());
+        modelManager.redoAddressBook();
+        assertEquals(List.of(merged, evening), modelManager.getTimeslots().getTimeslotList());
+    }
+
+    @Test
+    public void undoAddressBook_stepWithoutChanges_undoesEarlierStep() {
+        modelManager.saveAddressBook();
+        modelManager.addPerson(ALICE);
+        modelManager.endUndoableStep();
+        modelManager.saveAddressBook();
+        modelManager.endUndoableStep();
+
+        assertTrue(modelManager.canUndoAddressBook());
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void undoAddressBook_changeAfterStepEnded_historyCleared() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(CARL).withPerson(ALICE).withPerson(BENSON)
+                .build());
+        modelManager.saveAddressBook();
+        modelManager.deletePerson(CARL);
+        modelManager.endUndoableStep();
+        modelManager.sortPersonList(Comparator.comparing(person -> person.getName().fullName,
+                Comparator.reverseOrder()));
+
+        assertFalse(modelManager.canUndoAddressBook());
+        assertEquals(List.of(BENSON, ALICE), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void redoAddressBook_newChangeAfterUndo_cannotRedo() {
+        modelManager.saveAddressBook();
+        modelManager.addPerson(ALICE);
+        modelManager.undoAddressBook();
+
+        modelManager.saveAddressBook();
+        modelManager.addPerson(CARL);
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_deleteAndSort_restoresOrder() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(CARL).withPerson(ALICE).withPerson(BENSON)
+                .build());
+        modelManager.saveAddressBook();
+        modelManager.deletePerson(ALICE);
+        modelManager.sortPersonList(Comparator.comparing(person -> person.getName().fullName));
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(CARL, ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void sortPersonList_criteria_sortsAndUndoRestoresOrder() {
+        Person aliceWithFullAttendance = new PersonBuilder(ALICE)
+                .withLabAttendanceList("L1: Y L2: Y L3: N L4: N L5: N L6: N L7: N L8: N L9: N L10: N").build();
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(CARL).withPerson(BENSON)
+                .withPerson(aliceWithFullAttendance).build());
+        modelManager.saveAddressBook();
+        modelManager.sortPersonList(List.of(new LabSortCriterion(), new NameSortCriterion(true)));
+        assertEquals(List.of(aliceWithFullAttendance, CARL, BENSON), modelManager.getAddressBook().getPersonList());
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(CARL, BENSON, aliceWithFullAttendance), modelManager.getAddressBook().getPersonList());
+        modelManager.redoAddressBook();
+        assertEquals(List.of(aliceWithFullAttendance, CARL, BENSON), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void undoAddressBook_beyondUndoLimit_keepsMostRecentSteps() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoLimit(2);
+        modelManager.setUserPrefs(userPrefs);
+        for (Person person : List.of(ALICE, BENSON, CARL)) {
+            modelManager.saveAddressBook();
+            modelManager.addPerson(person);
+        }
+
+        modelManager.undoAddressBook();
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -93,4 +93,24 @@ public class ExerciseTrackerTest {
         assertEquals(-1.0 / ExerciseTracker.NUMBER_OF_EXERCISES * 100, exerciseTracker.calculateProgress());
     }
 
+    @Test
+    public void statusAtAndCountOf_afterMarking_reflectStatuses() {
+        tracker.markExercise(Index.fromZeroBased(0), Status.DONE);
+        tracker.markExercise(Index.fromZeroBased(9), Status.OVERDUE);
+        assertEquals(Status.DONE, tracker.statusAt(0));
+        assertEquals(Status.OVERDUE, tracker.statusAt(9));
+        assertEquals(Status.NOT_DONE, tracker.statusAt(5));
+        assertEquals(1, tracker.countOf(Status.DONE));
+        assertEquals(8, tracker.countOf(Status.NOT_DONE));
+        assertThrows(IndexOutOfBoundsException.class, () -> tracker.statusAt(10));
+    }
+
+    @Test
+    public void copy_thenMark_leavesOriginalUnchanged() {
+        ExerciseTracker copy = tracker.copy();
+        copy.markExercise(Index.fromZeroBased(2), Status.DONE);
+        assertEquals(Status.NOT_DONE, tracker.statusAt(2));
+        assertEquals(0.0, tracker.calculateProgress());
+        assertEquals(10.0, copy.calculateProgress());
+    }
 }
@@ -8,12 +8,11 @@ import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.HashMap;
-
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.InvalidExamNameException;
+import seedu.address.model.person.exceptions.InvalidScoreException;
 
 public class GradeMapTest {
 
@@ -26,19 +25,18 @@ public class GradeMapTest {
 
     @Test
     public void constructor_initializesAllValidExamNames() {
-        HashMap<String, Gradeable> map = gradeMap.getGradeableHashMap();
-        assertEquals(GradeMap.VALID_EXAM_NAMES.length, map.size());
-        for (String name : GradeMap.VALID_EXAM_NAMES) {
-            assertTrue(map.containsKey(name));
-            assertNotNull(map.get(name));
+        assertEquals(ExamKind.values().length, GradeMap.VALID_EXAM_NAMES.length);
+        for (ExamKind examKind : ExamKind.values()) {
+            assertEquals(GradeMap.VALID_EXAM_NAMES[examKind.ordinal()], examKind.getExamName());
+            assertFalse(gradeMap.isGraded(examKind));
+            assertTrue(Double.isNaN(gradeMap.getScore(examKind)));
         }
     }
 
     @Test
     public void gradeExam_validExamName_setsScoreSuccessfully() throws InvalidExamNameException {
         gradeMap.gradeExam("midterm", 30.0);
-        Gradeable exam = gradeMap.getGradeableHashMap().get("midterm");
-        assertEquals(30.0 / Examination.MAX_MIDTERM_SCORE * 100.0 , exam.getScore());
+        assertEquals(30.0 / Examination.MAX_MIDTERM_SCORE * 100.0 , gradeMap.getScore(ExamKind.MIDTERM));
     }
 
     @Test
@@ -90,32 +88,26 @@ public class GradeMapTest {
         assertNotSame(gradeMap, copied, "Copy should be a different object");
         assertEquals(gradeMap, copied, "Copy should have the same content initially");
 
-        // Verify all exam entries exist
-        for (String examName : GradeMap.VALID_EXAM_NAMES) {
-            assertTrue(copied.getGradeableHashMap().containsKey(examName),
-                    "Copied GradeMap should contain " + examName);
-            assertNotNull(copied.getGradeableHashMap().get(examName),
-                    "Copied exam entry should not be null");
-        }
+        assertEquals(gradeMap.hashCode(), copied.hashCode());
 
         // Verify scores were copied correctly
         assertEquals(
-                gradeMap.getGradeableHashMap().get("midterm").getScore(),
-                copied.getGradeableHashMap().get("midterm").getScore(),
+                gradeMap.getScore(ExamKind.MIDTERM),
+                copied.getScore(ExamKind.MIDTERM),
                 1e-9,
                 "Midterm score should match after copy"
         );
         assertEquals(
-                gradeMap.getGradeableHashMap().get("final").getScore(),
-                copied.getGradeableHashMap().get("final").getScore(),
+                gradeMap.getScore(ExamKind.FINAL),
+                copied.getScore(ExamKind.FINAL),
                 1e-9,
                 "Final score should match after copy"
         );
 
         // Deep copy check — modifying copy shouldn’t affect original
         copied.gradeExam("midterm", 60.0);
-        double originalMidterm = gradeMap.getGradeableHashMap().get("midterm").getScore();
-        double copiedMidterm = copied.getGradeableHashMap().get("midterm").getScore();
+        double originalMidterm = gradeMap.getScore(ExamKind.MIDTERM);
+        double copiedMidterm = copied.getScore(ExamKind.MIDTERM);
 
         assertNotEquals(
                 originalMidterm,
@@ -128,13 +120,23 @@ public class GradeMapTest {
     public void copy_ungradedExams_preserveDefaultState() {
         GradeMap copied = gradeMap.copy();
 
-        for (String examName : GradeMap.VALID_EXAM_NAMES) {
-            assertTrue(copied.getGradeableHashMap().containsKey(examName),
-                    "Copied GradeMap should contain " + examName);
-            Gradeable exam = copied.getGradeableHashMap().get(examName);
-            assertTrue(exam instanceof Examination, "Exam should be an instance of Examination");
-            double score = ((Examination) exam).getScore();
-            assertEquals(-1.0, score, "Ungraded exam should have score -1.0");
+        for (ExamKind examKind : ExamKind.values()) {
+            assertFalse(copied.isGraded(examKind), "Ungraded exam should stay ungraded");
         }
+        assertEquals(gradeMap, copied);
+    }
+
+    @Test
+    public void toString_gradedAndUngraded_matchesSavedFormat() {
+        gradeMap.setPercentageScore(ExamKind.PE1, 87.5);
+        assertEquals("pe1: 87.5, midterm: NA, pe2: NA, final: NA", gradeMap.toString());
+    }
+
+    @Test
+    public void setPercentageScore_outOfRange_throwsException() {
+        assertThrows(InvalidScoreException.class, () -> gradeMap.setPercentageScore(ExamKind.FINAL, 100.5));
+        assertThrows(InvalidScoreException.class, () -> gradeMap.gradeExam(ExamKind.PE2, 41));
+        assertFalse(gradeMap.isGraded(ExamKind.FINAL));
+        assertFalse(gradeMap.isGraded(ExamKind.PE2));
     }
 }
@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.Week;
+
 public class LabListTest {
     public static final String INVALID_LAB_LIST_STATUS =
             "L1: L L2: N L3: N L4: N L5: N L6: N L7: N L8: N L9: N L10: N ";
@@ -37,7 +39,7 @@ public class LabListTest {
     public void constructorNoParam_default_success() {
         LabList labAttendanceList = new LabList();
         for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
-            assertFalse(labAttendanceList.getLabs()[i].isAttended());
+            assertFalse(labAttendanceList.getLabs(new Week(0))[i].isAttended());
         }
     }
 
@@ -45,7 +47,7 @@ public class LabListTest {
     public void constructorWithParam_default_success() {
         LabList labAttendanceList = new LabList(labs);
         for (int i = 0; i < labs.length; i++) {
-            assertFalse(labAttendanceList.getLabs()[i].isAttended());
+            assertFalse(labAttendanceList.getLabs(new Week(0))[i].isAttended());
         }
     }
 
@@ -53,13 +55,13 @@ public class LabListTest {
     public void markLab_validIndex_success() {
         LabList labAttendanceList = new LabList(labs);
 
-        assertFalse(labAttendanceList.getLabs()[0].isAttended());
+        assertFalse(labAttendanceList.getLabs(new Week(0))[0].isAttended());
         labAttendanceList.markLabAsAttended(0);
-        assertTrue(labAttendanceList.getLabs()[0].isAttended());
+        assertTrue(labAttendanceList.getLabs(new Week(0))[0].isAttended());
 
-        assertFalse(labAttendanceList.getLabs()[5].isAttended());
+        assertFalse(labAttendanceList.getLabs(new Week(0))[5].isAttended());
         labAttendanceList.markLabAsAttended(5);
-        assertTrue(labAttendanceList.getLabs()[5].isAttended());
+        assertTrue(labAttendanceList.getLabs(new Week(0))[5].isAttended());
     }
 
     @Test
@@ -98,7 +100,7 @@ public class LabListTest {
         LabList labAttendanceList = new LabList(labs);
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
-            sb.append("LN").append(" ");
+            sb.append("L").append(i + 1).append(": N").append(" ");
         }
         assertEquals(sb.toString(), labAttendanceList.toString());
 
@@ -106,15 +108,27 @@ public class LabListTest {
         sb = new StringBuilder();
         for (int i = 0; i < LabList.NUMBER_OF_LABS; i++) {
             if (i == 2) {
-                sb.append("LY").append(" ");
+                sb.append("L").append(i + 1).append(": Y").append(" ");
             } else {
-                sb.append("LN").append(" ");
+                sb.append("L").append(i + 1).append(": N").append(" ");
             }
 
         }
         assertEquals(sb.toString(), labAttendanceList.toString());
     }
 
+    @Test
+    public void statusAt_pastWeek_absentUnlessAttended() {
+        LabList labList = new LabList();
+        labList.markLabAsAttended(0);
+        assertEquals("Y", labList.statusAt(0, new Week(5)));
+        assertEquals("A", labList.statusAt(1, new Week(5)));
+        assertEquals("N", labList.statusAt(2, new Week(5)));
+
+        // the status follows the week without the list being rebuilt
+        assertEquals("A", labList.statusAt(2, new Week(6)));
+    }
+
     @Test
     public void copy_default_success() {
         LabList labList = new LabList();
@@ -126,7 +140,25 @@ public class LabListTest {
         labListCopy = labList.copy();
         assertNotSame(labList, labListCopy);
         assertEquals(labList, labListCopy);
+        assertEquals(labList.hashCode(), labListCopy.hashCode());
+
+        labListCopy.markLabAsAttended(4);
+        assertFalse(labList.isAttended(4));
+        assertEquals(10.0, labList.calculateLabAttendance());
+        assertEquals(20.0, labListCopy.calculateLabAttendance());
+    }
 
+    @Test
+    public void fromAttendedMask() {
+        LabList labList = LabList.fromAttendedMask(0b1000000101);
+        assertTrue(labList.isAttended(0));
+        assertTrue(labList.isAttended(2));
+        assertTrue(labList.isAttended(9));
+        assertFalse(labList.isAttended(1));
+        assertEquals(0b1000000101, labList.getAttendedMask());
+        assertEquals(30.0, labList.calculateLabAttendance());
+
+        assertThrows(IllegalArgumentException.class, () -> LabList.fromAttendedMask(1 << LabList.NUMBER_OF_LABS));
     }
 
     @Test
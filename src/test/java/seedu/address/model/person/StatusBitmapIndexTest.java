@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.testutil.PersonBuilder;
+
+public class StatusBitmapIndexTest {
+
+    private final StatusBitmapIndex statusIndex = new StatusBitmapIndex();
+
+    @Test
+    public void getExerciseMatches_markedExercise_onlyMarkedPersonsMatch() {
+        Person doneAlice = withExerciseDone(ALICE, 3);
+        statusIndex.setPersons(Arrays.asList(doneAlice, BENSON, CARL));
+
+        assertEquals(Set.of(ALICE.getStudentId()),
+                statusIndex.getStudentIds(statusIndex.getExerciseMatches(3, Status.DONE)));
+        assertEquals(Set.of(BENSON.getStudentId(), CARL.getStudentId()),
+                statusIndex.getStudentIds(statusIndex.getExerciseMatches(3, Status.NOT_DONE)));
+    }
+
+    @Test
+    public void getLabMatches_attendedLab_andCombinesWithExercise() {
+        Person attendedAlice = withLabAttended(withExerciseDone(ALICE, 3), 5);
+        Person attendedBenson = withLabAttended(BENSON, 5);
+        statusIndex.setPersons(Arrays.asList(attendedAlice, attendedBenson, CARL));
+
+        BitSet matches = statusIndex.getLabMatches(5, true);
+        assertEquals(Set.of(ALICE.getStudentId(), BENSON.getStudentId()), statusIndex.getStudentIds(matches));
+        assertEquals(Set.of(CARL.getStudentId()), statusIndex.getStudentIds(statusIndex.getLabMatches(5, false)));
+
+        matches.and(statusIndex.getExerciseMatches(3, Status.DONE));
+        assertEquals(Set.of(ALICE.getStudentId()), statusIndex.getStudentIds(matches));
+    }
+
+    @Test
+    public void remove_thenAdd_slotReusedWithNewStatuses() {
+        statusIndex.add(ALICE);
+        statusIndex.add(BENSON);
+        statusIndex.remove(ALICE);
+        assertTrue(statusIndex.getStudentIds(statusIndex.getExerciseMatches(3, Status.DONE)).isEmpty());
+
+        statusIndex.add(withExerciseDone(CARL, 3));
+        assertEquals(Set.of(CARL.getStudentId()),
+                statusIndex.getStudentIds(statusIndex.getExerciseMatches(3, Status.DONE)));
+        assertEquals(Set.of(BENSON.getStudentId()),
+                statusIndex.getStudentIds(statusIndex.getExerciseMatches(3, Status.NOT_DONE)));
+    }
+
+    @Test
+    public void getExerciseMatches_indexOutOfRange_returnsEmpty() {
+        statusIndex.add(ALICE);
+        assertTrue(statusIndex.getExerciseMatches(ExerciseTracker.NUMBER_OF_EXERCISES, Status.NOT_DONE).isEmpty());
+        assertTrue(statusIndex.getLabMatches(-1, false).isEmpty());
+    }
+
+    private static Person withExerciseDone(Person person, int exerciseIndex) {
+        ExerciseTracker exerciseTracker = person.getExerciseTracker().copy();
+        exerciseTracker.markExercise(Index.fromZeroBased(exerciseIndex), Status.DONE);
+        return new PersonBuilder(person).withExerciseTracker(exerciseTracker.toString()).build();
+    }
+
+    private static Person withLabAttended(Person person, int labIndex) {
+        LabList labList = ((LabList) person.getLabAttendanceList()).copy();
+        labList.markLabAsAttended(labIndex);
+        return new PersonBuilder(person).withLabAttendanceList(labList.toString()).build();
+    }
+}
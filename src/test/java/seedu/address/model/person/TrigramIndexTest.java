@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+
+    @Test
+    public void getCandidates_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trigramIndex.getCandidates(SearchableField.NAME, null));
+    }
+
+    @Test
+    public void getCandidates_shortKeyword_returnsEmptyOptional() {
+        trigramIndex.add(ALICE);
+        assertEquals(Optional.empty(), trigramIndex.getCandidates(SearchableField.NAME, "al"));
+    }
+
+    @Test
+    public void getCandidates_substringOfField_ignoresCase() {
+        trigramIndex.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+        assertEquals(Optional.of(Set.of(BENSON.getStudentId(), DANIEL.getStudentId())),
+                trigramIndex.getCandidates(SearchableField.NAME, "MEIER"));
+        assertEquals(Optional.of(Set.of(BENSON.getStudentId())),
+                trigramIndex.getCandidates(SearchableField.TAG, "HADconsult"));
+    }
+
+    @Test
+    public void getCandidates_unknownTrigram_returnsEmptySet() {
+        trigramIndex.add(ALICE);
+        assertEquals(Optional.of(Collections.emptySet()), trigramIndex.getCandidates(SearchableField.EMAIL, "xyz"));
+    }
+
+    @Test
+    public void getCandidates_afterRemove_personNotReturned() {
+        trigramIndex.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Tan").build();
+        trigramIndex.remove(ALICE);
+        trigramIndex.add(editedAlice);
+        assertTrue(trigramIndex.getCandidates(SearchableField.NAME, "pauline").get().isEmpty());
+        assertEquals(Optional.of(Set.of(ALICE.getStudentId())),
+                trigramIndex.getCandidates(SearchableField.NAME, "alicia"));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.person.sortcriterion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSorterTest {
+
+    private static final String ALL_LABS_MISSED = "L1: N L2: N L3: N L4: N L5: N L6: N L7: N L8: N L9: N L10: N";
+    private static final String ONE_LAB_ATTENDED = "L1: Y L2: N L3: N L4: N L5: N L6: N L7: N L8: N L9: N L10: N";
+
+    @Test
+    public void sort_multipleCriteria_laterCriteriaBreakTies() {
+        Person bob = new PersonBuilder().withStudentId("A0000001B").withName("Bob")
+                .withLabAttendanceList(ONE_LAB_ATTENDED).build();
+        Person amy = new PersonBuilder().withStudentId("A0000002B").withName("amy")
+                .withLabAttendanceList(ONE_LAB_ATTENDED).build();
+        Person carl = new PersonBuilder().withStudentId("A0000003B").withName("Carl")
+                .withLabAttendanceList(ALL_LABS_MISSED).build();
+        List<Person> persons = List.of(carl, bob, amy);
+
+        assertEquals(List.of(amy, bob, carl),
+                PersonSorter.sort(persons, List.of(new LabSortCriterion(), new NameSortCriterion())));
+        assertEquals(List.of(bob, amy, carl),
+                PersonSorter.sort(persons, List.of(new LabSortCriterion(), new NameSortCriterion(true))));
+        assertEquals(List.of(carl, amy, bob),
+                PersonSorter.sort(persons, List.of(new LabSortCriterion(false), new NameSortCriterion())));
+        assertEquals(List.of(carl, bob, amy), persons);
+    }
+
+    @Test
+    public void sort_fullTie_orderedByStudentId() {
+        Person first = new PersonBuilder().withStudentId("A0000001B").withName("Amy").build();
+        Person second = new PersonBuilder().withStudentId("A0000002B").withName("amy").build();
+
+        assertEquals(List.of(first, second), PersonSorter.sort(List.of(second, first),
+                List.of(new NameSortCriterion())));
+    }
+
+    @Test
+    public void sort_largeList_matchesComparator() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PersonSorter.PARALLEL_SORT_THRESHOLD; i++) {
+            persons.add(new PersonBuilder().withStudentId(String.format("A%07dB", i))
+                    .withName("Student " + (i % 97)).build());
+        }
+
+        NameSortCriterion criterion = new NameSortCriterion(true);
+        List<Person> expected = new ArrayList<>(persons);
+        expected.sort(criterion.getComparator().thenComparing(Person::getStudentId));
+        assertEquals(expected, PersonSorter.sort(persons, List.of(criterion)));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.timeslot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class RecurringTimeslotTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 10, 6, 0, 0);
+    private static final Timeslot LAB = new Timeslot(MONDAY.plusHours(14), MONDAY.plusHours(16));
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RecurringTimeslot(LAB, 0, List.of()));
+        // a Tuesday, on which the lab does not recur
+        assertThrows(IllegalArgumentException.class, () -> new RecurringTimeslot(LAB, 13,
+                List.of(LocalDate.of(2025, 10, 7))));
+        // the Monday after the last week
+        assertThrows(IllegalArgumentException.class, () -> new RecurringTimeslot(LAB, 2,
+                List.of(LocalDate.of(2025, 10, 20))));
+    }
+
+    @Test
+    public void getOccurrences_windowInMiddleOfRule_returnsOnlyOccurrencesInWindow() {
+        RecurringTimeslot lab = new RecurringTimeslot(LAB, 13, List.of(LocalDate.of(2025, 10, 27)));
+
+        // weeks 2 to 4 fall in the window, but week 3 is skipped
+        Timeslot window = new Timeslot(MONDAY.plusWeeks(2), MONDAY.plusWeeks(5));
+        assertEquals(List.of(lab.getOccurrence(2), lab.getOccurrence(4)), lab.getOccurrences(window));
+
+        // an occurrence that only touches the window does not overlap it
+        assertEquals(List.of(), lab.getOccurrences(new Timeslot(MONDAY.plusHours(16), MONDAY.plusHours(20))));
+        assertEquals(List.of(LAB), lab.getOccurrences(new Timeslot(MONDAY.plusHours(15), MONDAY.plusHours(20))));
+
+        // nothing after the last week
+        assertEquals(List.of(), lab.getOccurrences(new Timeslot(MONDAY.plusWeeks(13), MONDAY.plusWeeks(20))));
+        assertEquals(List.of(lab.getOccurrence(12)),
+                lab.getOccurrences(new Timeslot(MONDAY.plusWeeks(12), MONDAY.plusWeeks(20))));
+    }
+
+    @Test
+    public void withExceptions_allOccurrencesSkipped_hasNoOccurrences() {
+        RecurringTimeslot lab = new RecurringTimeslot(LAB, 2, List.of());
+        assertTrue(lab.hasOccurrences());
+
+        RecurringTimeslot skipped = lab.withExceptions(List.of(LocalDate.of(2025, 10, 6)));
+        assertTrue(skipped.hasOccurrences());
+        assertFalse(skipped.equals(lab));
+
+        assertFalse(skipped.withExceptions(List.of(LocalDate.of(2025, 10, 13))).hasOccurrences());
+        assertEquals(skipped, skipped.withExceptions(List.of(LocalDate.of(2025, 10, 6))));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.timeslot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeslotTreeTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 10, 6, 0, 0);
+
+    private final TimeslotTree tree = new TimeslotTree();
+
+    @Test
+    public void overlapping_touchingAndNestedTimeslots_returnsOverlapsInOrder() {
+        Timeslot morning = hours(9, 12);
+        Timeslot allDay = hours(8, 18);
+        Timeslot noon = hours(12, 13);
+        Timeslot evening = hours(18, 20);
+        tree.add(evening);
+        tree.add(noon);
+        tree.add(allDay);
+        tree.add(morning);
+
+        assertEquals(List.of(allDay, morning), tree.overlapping(hours(10, 12)));
+        assertEquals(List.of(allDay, noon), tree.overlapping(hours(12, 13)));
+        assertEquals(List.of(), tree.overlapping(hours(20, 22)));
+        assertEquals(List.of(allDay, morning, noon, evening), tree.overlapping(hours(0, 24)));
+    }
+
+    @Test
+    public void remove_duplicateTimeslot_removesOneOccurrence() {
+        Timeslot slot = hours(9, 10);
+        tree.add(slot);
+        tree.add(hours(9, 10));
+        assertEquals(2, tree.size());
+
+        assertTrue(tree.remove(slot));
+        assertTrue(tree.contains(slot));
+        assertTrue(tree.remove(slot));
+        assertFalse(tree.contains(slot));
+        assertFalse(tree.remove(slot));
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    public void overlapping_randomTimeslots_matchesLinearScan() {
+        Random random = new Random(7);
+        List<Timeslot> stored = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Timeslot slot = randomTimeslot(random);
+            stored.add(slot);
+            tree.add(slot);
+        }
+        for (int i = 0; i < 200; i++) {
+            Timeslot removed = stored.remove(random.nextInt(stored.size()));
+            assertTrue(tree.remove(removed));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            Timeslot range = randomTimeslot(random);
+            List<Timeslot> expected = stored.stream()
+                    .filter(slot -> slot.getEnd().isAfter(range.getStart())
+                            && slot.getStart().isBefore(range.getEnd()))
+                    .sorted(Timeslot.START_TIME_ORDER)
+                    .collect(Collectors.toList());
+            assertEquals(expected, tree.overlapping(range));
+        }
+        assertEquals(stored.size(), tree.size());
+    }
+
+    private static Timeslot hours(int startHour, int endHour) {
+        return new Timeslot(MONDAY.plusHours(startHour), MONDAY.plusHours(endHour));
+    }
+
+    private static Timeslot randomTimeslot(Random random) {
+        LocalDateTime start = MONDAY.plusMinutes(30L * random.nextInt(24 * 14));
+        return new Timeslot(start, start.plusMinutes(30L * (1 + random.nextInt(12))));
+    }
+}
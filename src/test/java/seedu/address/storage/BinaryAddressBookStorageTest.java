@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Week;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.snapshot")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.snapshot");
+        AddressBook original = getTypicalAddressBook();
+        original.setCurrentWeek(new Week(7));
+        Person graded = new PersonBuilder(ALICE)
+                .withLabAttendanceList("L1: Y L2: N L3: Y L4: N L5: N L6: N L7: N L8: N L9: N L10: Y")
+                .withExerciseTracker("ex 0: D ex 1: D ex 2: N ex 3: O ex 4: N ex 5: N ex 6: N ex 7: N ex 8: N "
+                        + "ex 9: O")
+                .withGradeMap("pe1: 87.5, midterm: NA, pe2: 0, final: 100").build();
+        original.setPerson(ALICE, graded);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getCurrentWeek(), readBack.getCurrentWeek());
+    }
+
+    @Test
+    public void convert_jsonToSnapshotAndBack_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path snapshotFilePath = testFolder.resolve("addressbook.snapshot");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage.convertJsonToSnapshot(jsonFilePath, snapshotFilePath);
+        assertTrue(Files.size(snapshotFilePath) < Files.size(jsonFilePath));
+        Files.delete(jsonFilePath);
+        BinaryAddressBookStorage.convertSnapshotToJson(snapshotFilePath, jsonFilePath);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_notSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.snapshot");
+        Files.writeString(filePath, "{ \"persons\": [] }");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.snapshot");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void openMapped_personsAccessed_onlyThoseAreDecoded() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.snapshot");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        MappedAddressBookSnapshot snapshot = BinaryAddressBookStorage.openMapped(filePath);
+        assertEquals(original.getPersonList().size(), snapshot.getPersonList().size());
+        assertEquals(0, snapshot.getHydratedCount());
+
+        assertEquals(BENSON, snapshot.getPersonList().get(1));
+        assertEquals(ALICE, snapshot.findPerson(ALICE.getStudentId()).get());
+        assertFalse(snapshot.findPerson(new StudentId("A0000000A")).isPresent());
+        assertEquals(2, snapshot.getHydratedCount());
+
+        assertEquals(original, new AddressBook(snapshot));
+        assertEquals(original.getPersonList().size(), snapshot.getHydratedCount());
+    }
+
+    @Test
+    public void openMapped_truncatedSnapshot_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.snapshot");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(DataLoadingException.class, () -> BinaryAddressBookStorage.openMapped(filePath));
+    }
+}
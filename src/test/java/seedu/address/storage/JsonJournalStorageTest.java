@@ -0,0 +1,164 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Timeslots;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.Week;
+import seedu.address.model.person.Person;
+import seedu.address.model.timeslot.RecurringTimeslot;
+import seedu.address.model.timeslot.Timeslot;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonJournalStorageTest {
+
+    private static final Timeslot TIMESLOT = new Timeslot(LocalDateTime.of(2025, 10, 4, 10, 0),
+            LocalDateTime.of(2025, 10, 4, 13, 0));
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void replayJournal_committedChanges_reproducesModel() throws Exception {
+        JsonJournalStorage journal = new JsonJournalStorage(testFolder.resolve("journal"));
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new Timeslots(), new UserPrefs());
+        model.setDataChangeListener(journal);
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        model.saveAddressBook();
+        model.deletePerson(ALICE);
+        model.setPerson(BENSON, editedBenson);
+        journal.commitJournal("edit");
+        model.sortPersonList(Comparator.comparing(person -> person.getName().fullName));
+        model.setCurrentWeek(new Week(4));
+        model.addTimeslot(TIMESLOT);
+        journal.commitJournal("sort");
+        model.undoAddressBook();
+        journal.commitJournal("undo");
+        assertEquals(3, journal.getJournalSize());
+
+        AddressBook replayedAddressBook = getTypicalAddressBook();
+        Timeslots replayedTimeslots = new Timeslots();
+        assertEquals(3, new JsonJournalStorage(journal.getJournalFilePath())
+                .replayJournal(replayedAddressBook, replayedTimeslots));
+        assertEquals(model.getAddressBook(), replayedAddressBook);
+        assertEquals(model.getTimeslots(), replayedTimeslots);
+    }
+
+    @Test
+    public void replayJournal_recurringTimeslots_reproducesTimeslots() throws Exception {
+        JsonJournalStorage journal = new JsonJournalStorage(testFolder.resolve("journal"));
+        ModelManager model = new ModelManager(new AddressBook(), new Timeslots(), new UserPrefs());
+        model.setDataChangeListener(journal);
+        RecurringTimeslot lab = new RecurringTimeslot(TIMESLOT, 13, List.of());
+
+        model.saveAddressBook();
+        model.addRecurringTimeslot(lab);
+        model.addTimeslot(TIMESLOT);
+        journal.commitJournal("block-recurring");
+        model.saveAddressBook();
+        model.clearTimeslots();
+        journal.commitJournal("clear-timeslots");
+        model.undoAddressBook();
+        model.removeRecurringTimeslot(lab);
+        model.addRecurringTimeslot(lab.withExceptions(List.of(TIMESLOT.getStart().toLocalDate())));
+        journal.commitJournal("unblock-timeslot");
+
+        Timeslots replayed = new Timeslots();
+        assertEquals(3, journal.replayJournal(new AddressBook(), replayed));
+        assertEquals(model.getTimeslots(), replayed);
+    }
+
+    @Test
+    public void replayJournal_replayedTwice_sameResult() throws Exception {
+        JsonJournalStorage journal = new JsonJournalStorage(testFolder.resolve("journal"));
+        AddressBook addressBook = new AddressBook();
+        addressBook.setChangeListener(journal);
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(CARL);
+        addressBook.setPerson(CARL, BENSON);
+        journal.commitJournal("add");
+
+        AddressBook replayed = new AddressBook();
+        journal.replayJournal(replayed, new Timeslots());
+        journal.replayJournal(replayed, new Timeslots());
+        assertEquals(addressBook, replayed);
+    }
+
+    @Test
+    public void replayJournal_tornLastRecord_skipsRecord() throws Exception {
+        JsonJournalStorage journal = new JsonJournalStorage(testFolder.resolve("journal"));
+        Timeslots timeslots = new Timeslots();
+        timeslots.setChangeListener(journal);
+        timeslots.addTimeslot(TIMESLOT);
+        journal.commitJournal("block-timeslot");
+        Files.write(journal.getJournalFilePath(), "{\"command\":\"clear-time".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        Timeslots replayed = new Timeslots();
+        assertEquals(1, journal.replayJournal(new AddressBook(), replayed));
+        assertTrue(replayed.hasTimeslot(TIMESLOT));
+    }
+
+    @Test
+    public void commitJournal_noChanges_writesNothing() throws Exception {
+        JsonJournalStorage journal = new JsonJournalStorage(testFolder.resolve("journal"));
+        journal.commitJournal("list");
+        assertFalse(Files.exists(journal.getJournalFilePath()));
+        assertEquals(0, journal.getJournalSize());
+    }
+
+    @Test
+    public void clearJournal_afterCommit_emptiesJournal() throws Exception {
+        JsonJournalStorage journal = new JsonJournalStorage(testFolder.resolve("journal"));
+        journal.timeslotAdded(TIMESLOT);
+        journal.commitJournal("block-timeslot");
+        journal.clearJournal();
+
+        Timeslots replayed = new Timeslots();
+        assertEquals(0, journal.replayJournal(new AddressBook(), replayed));
+        assertEquals(0, journal.getJournalSize());
+        assertFalse(replayed.hasTimeslot(TIMESLOT));
+    }
+
+    @Test
+    public void archiveJournal_untilCleared_isStillReplayed() throws Exception {
+        JsonJournalStorage journal = new JsonJournalStorage(testFolder.resolve("journal"));
+        journal.timeslotAdded(TIMESLOT);
+        journal.commitJournal("block-timeslot");
+        long first = journal.archiveJournal();
+        assertEquals(0, journal.getJournalSize());
+
+        journal.timeslotRemoved(TIMESLOT);
+        journal.commitJournal("unblock-timeslot");
+        long second = journal.archiveJournal();
+
+        // an older generation must not clear records archived after it
+        journal.clearArchivedJournal(first);
+        Timeslots replayed = new Timeslots();
+        assertEquals(2, journal.replayJournal(new AddressBook(), replayed));
+        assertFalse(replayed.hasTimeslot(TIMESLOT));
+
+        journal.clearArchivedJournal(second);
+        assertEquals(0, journal.replayJournal(new AddressBook(), new Timeslots()));
+    }
+}
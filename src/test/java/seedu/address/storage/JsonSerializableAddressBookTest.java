@@ -2,15 +2,22 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.StudentId;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +51,38 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyPersons_preservesOrder() throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 3 * JsonAdaptedPersonConverter.CHUNK_SIZE + 1; i++) {
+            persons.add(new JsonAdaptedPerson(
+                    new PersonBuilder().withStudentId(String.format("A%07dX", i)).build()));
+        }
+        List<Person> converted = new JsonSerializableAddressBook(persons, 0).toModelType().getPersonList();
+        assertEquals(persons.size(), converted.size());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(String.format("A%07dX", i), converted.get(i).getStudentId().value);
+        }
+    }
+
+    @Test
+    public void toModelType_severalInvalidPersons_reportsAll() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 2 * JsonAdaptedPersonConverter.CHUNK_SIZE; i++) {
+            persons.add(new JsonAdaptedPerson(
+                    new PersonBuilder().withStudentId(String.format("A%07dX", i)).build()));
+        }
+        persons.set(1, new JsonAdaptedPerson(new PersonBuilder().withStudentId("A0000000X").build()));
+        persons.set(300, new JsonAdaptedPerson("invalid", BENSON.getName().fullName, BENSON.getPhone().value,
+                BENSON.getEmail().value, new ArrayList<>(), BENSON.getGithubUsername().value,
+                BENSON.getLabAttendanceList().toString(), new HashMap<>()));
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(persons, 0);
+
+        String expectedMessage = String.format(JsonAdaptedPersonConverter.MESSAGE_MULTIPLE_ERRORS_FORMAT, 2,
+                String.format(JsonAdaptedPersonConverter.MESSAGE_PERSON_ERROR_FORMAT, 2,
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON) + "\n"
+                + String.format(JsonAdaptedPersonConverter.MESSAGE_PERSON_ERROR_FORMAT, 301,
+                        StudentId.MESSAGE_CONSTRAINTS));
+        assertThrows(IllegalValueException.class, expectedMessage, addressBook::toModelType);
+    }
 }
@@ -1,14 +1,18 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.Timeslots;
+import seedu.address.model.timeslot.RecurringTimeslot;
 import seedu.address.model.timeslot.Timeslot;
 
 public class JsonSerializableTimeslotsTest {
@@ -25,6 +29,18 @@ public class JsonSerializableTimeslotsTest {
         assertTrue(model.hasTimeslot(ts));
     }
 
+    @Test
+    public void toModelType_recurringTimeslots_roundTrip() throws Exception {
+        Timeslots source = new Timeslots();
+        Timeslot lab = new Timeslot(LocalDateTime.of(2025, 10, 6, 14, 0),
+                LocalDateTime.of(2025, 10, 6, 16, 0));
+        source.addTimeslot(lab);
+        source.addRecurringTimeslot(new RecurringTimeslot(lab, 13, List.of(LocalDate.of(2025, 10, 20))));
+
+        JsonSerializableTimeslots json = new JsonSerializableTimeslots(source);
+        assertEquals(source, json.toModelType());
+    }
+
     @Test
     public void toModelType_duplicateTimeslots_throwsIllegalValueException() {
         Timeslots source = new Timeslots();
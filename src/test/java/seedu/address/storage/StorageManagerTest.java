@@ -1,9 +1,12 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 
@@ -81,6 +84,50 @@ public class StorageManagerTest {
         assertEquals(original, new Timeslots(retrieved));
     }
 
+    @Test
+    public void saveCommandResult_withJournal_checkpointsAtInterval() throws Exception {
+        JsonJournalStorage journalStorage = new JsonJournalStorage(getTempFilePath("journal"));
+        StorageManager journaledStorage = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), new JsonTimeslotsStorage(getTempFilePath("ts")),
+                journalStorage);
+        Timeslots timeslots = new Timeslots();
+        timeslots.setChangeListener(journalStorage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        for (int i = 1; i < StorageManager.JOURNAL_CHECKPOINT_INTERVAL; i++) {
+            timeslots.addTimeslot(new Timeslot(LocalDateTime.of(2025, 10, 4, 10, 0).plusDays(i),
+                    LocalDateTime.of(2025, 10, 4, 13, 0).plusDays(i)));
+            journaledStorage.saveCommandResult("block-timeslot", addressBook, timeslots);
+        }
+        assertFalse(Files.exists(getTempFilePath("ab")));
+        assertTrue(Files.exists(getTempFilePath("journal")));
+
+        timeslots.clear();
+        journaledStorage.saveCommandResult("clear-timeslots", addressBook, timeslots);
+        journaledStorage.flush();
+        assertEquals(addressBook, new AddressBook(journaledStorage.readAddressBook().get()));
+        assertFalse(Files.exists(getTempFilePath("journal")));
+    }
+
+    @Test
+    public void checkpoint_unchangedData_skipsSave() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Timeslots timeslots = new Timeslots();
+        storageManager.checkpoint(addressBook, timeslots);
+        Files.delete(getTempFilePath("ab"));
+        Files.delete(getTempFilePath("ts"));
+
+        storageManager.checkpoint(addressBook, timeslots);
+        assertFalse(Files.exists(getTempFilePath("ab")));
+        assertFalse(Files.exists(getTempFilePath("ts")));
+
+        timeslots.addTimeslot(new Timeslot(LocalDateTime.of(2025, 10, 4, 10, 0),
+                LocalDateTime.of(2025, 10, 4, 13, 0)));
+        storageManager.checkpoint(addressBook, timeslots);
+        assertFalse(Files.exists(getTempFilePath("ab")));
+        assertTrue(Files.exists(getTempFilePath("ts")));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());